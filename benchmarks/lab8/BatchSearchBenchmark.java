@@ -0,0 +1,112 @@
+/*
+ * Author: Svetlana Dukkardt
+ * Student number: 040851905
+ * Lab: 8
+ * Date: 18 October, 2026
+ * Purpose: Measures the parallel batch lookup of the hash table
+ */
+
+package lab8;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link HashExample#searchAll(String[], ForkJoinPool)} with pools of different parallelism
+ * against the sequential {@link HashExample#search(String)} loop over the same batch.
+ * Half of the batch keys are stored in the table. The speedup is bounded by the number of available cores.
+ *
+ * @author Svetlana Dukkardt
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BatchSearchBenchmark {
+    /**
+     * Number of stored keys
+     */
+    @Param({"1000000"})
+    public int size;
+    /**
+     * Number of keys in the batch
+     */
+    @Param({"100000"})
+    public int batchSize;
+    /**
+     * Parallelism of the pool
+     */
+    @Param({"1", "2", "4", "8"})
+    public int parallelism;
+
+    /**
+     * Filled table
+     */
+    private HashExample hashExample;
+    /**
+     * Keys to search
+     */
+    private String[] batch;
+    /**
+     * Pool that runs the batch
+     */
+    private ForkJoinPool pool;
+
+    /**
+     * Generates the keys, fills the table and starts the pool
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        String[] keys = KeyDistribution.RANDOM.generate(size + batchSize / 2, 42);
+        hashExample = HashExampleBenchmark.fill(TableStrategy.RESIZABLE.create(size), Arrays.copyOf(keys, size));
+        batch = Arrays.copyOfRange(keys, size - batchSize / 2, size + batchSize / 2);
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    /**
+     * Stops the pool
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    /**
+     * Searches for the batch in parallel
+     * @return indexes of the keys
+     */
+    @Benchmark
+    public int[] searchAll() {
+        return hashExample.searchAll(batch, pool);
+    }
+
+    /**
+     * Searches for the batch key by key
+     * @return indexes of the keys
+     */
+    @Benchmark
+    public int[] searchSequential() {
+        int[] indexes = new int[batch.length];
+        for (int i = 0; i < batch.length; i++) {
+            indexes[i] = hashExample.search(batch[i]);
+        }
+        return indexes;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Author: Svetlana Dukkardt
+ * Student number: 040851905
+ * Lab: 8
+ * Date: 18 October, 2026
+ * Purpose: Measures throughput of the thread-safe hash table
+ */
+
+package lab8;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures throughput of {@link ConcurrentHashExample}.
+ * Run with different thread counts to see the scaling, e.g. {@code -t 1}, {@code -t 4}, {@code -t max}.
+ *
+ * @author Svetlana Dukkardt
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConcurrentHashExampleBenchmark {
+    /**
+     * Number of distinct keys
+     */
+    @Param({"1000000"})
+    public int size;
+
+    /**
+     * Keys to add and search
+     */
+    private String[] keys;
+    /**
+     * Table with the first half of the keys added
+     */
+    private ConcurrentHashExample hashExample;
+
+    /**
+     * Generates the keys and fills half of them into the table
+     */
+    @Setup
+    public void setUp() {
+        keys = KeyDistribution.RANDOM.generate(size, 42);
+        hashExample = new ConcurrentHashExample();
+        for (int i = 0; i < size / 2; i++) {
+            hashExample.add(keys[i]);
+        }
+    }
+
+    /**
+     * Searches for a random key, half of the lookups are misses until the keys are added
+     * @return index of the key
+     */
+    @Benchmark
+    public int search() {
+        return hashExample.search(keys[ThreadLocalRandom.current().nextInt(size)]);
+    }
+
+    /**
+     * Adds a random key, most of the calls find the key already stored
+     * @return index of the key
+     */
+    @Benchmark
+    public int add() {
+        return hashExample.add(keys[ThreadLocalRandom.current().nextInt(size)]);
+    }
+}
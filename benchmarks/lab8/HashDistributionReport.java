@@ -0,0 +1,156 @@
+/*
+ * Author: Svetlana Dukkardt
+ * Student number: 040851905
+ * Lab: 8
+ * Date: 18 October, 2026
+ * Purpose: Prints how evenly each hash function spreads the keys
+ */
+
+package lab8;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Prints for each {@link HashStrategy hash strategy} how evenly it spreads the keys
+ * over the slots of a resizable table with the default load factor:
+ * <ul>
+ *     <li>chi-square of the slot counts against the uniform distribution, divided by the degrees of freedom,
+ *     about 1.0 for a uniform hash</li>
+ *     <li>longest run of occupied slots after linear probing</li>
+ *     <li>hashing time per key</li>
+ * </ul>
+ * Usage: {@code java -cp target/benchmarks.jar lab8.HashDistributionReport [file]} -
+ * with a file the keys are read from it, one per line, otherwise the generated
+ * {@link KeyDistribution key distributions} are reported.
+ *
+ * @author Svetlana Dukkardt
+ */
+public class HashDistributionReport {
+    /**
+     * Number of generated keys
+     */
+    private static final int GENERATED_KEYS = 1_000_000;
+    /**
+     * Number of timed hashing rounds, the fastest one is reported.
+     * Use {@link HashStrategyBenchmark} for precise timing.
+     */
+    private static final int ROUNDS = 5;
+
+    /**
+     * Constructor.
+     */
+    private HashDistributionReport() {}
+
+    /**
+     * Entry point.
+     * @param args - optional file with the keys
+     * @throws IOException in case of the file cannot be read
+     */
+    public static void main(String[] args) throws IOException {
+        System.out.printf("%-14s %-10s %9s %9s %12s %11s %9s%n",
+                "keys", "hash", "count", "slots", "chi2/df", "max cluster", "ns/key");
+        if (args.length > 0) {
+            report(Paths.get(args[0]).getFileName().toString(), readKeys(args[0]));
+        } else {
+            for (KeyDistribution distribution : KeyDistribution.values()) {
+                report(distribution.name(), distribution.generate(GENERATED_KEYS, 42));
+            }
+        }
+    }
+
+    /**
+     * Prints the report of all hash strategies for the keys
+     * @param name - name of the key set
+     * @param keys - keys to hash
+     */
+    private static void report(String name, String[] keys) {
+        int slots = HashExample.tableSizeFor((int) Math.ceil(keys.length / (double) HashExample.DEFAULT_LOAD_FACTOR));
+        for (HashStrategy strategy : HashStrategy.values()) {
+            int[] counts = new int[slots];
+            for (String key : keys) {
+                counts[(int) strategy.hash(key) & (slots - 1)]++;
+            }
+            long best = Long.MAX_VALUE;
+            long sink = 0;
+            for (int round = 0; round < ROUNDS; round++) {
+                long start = System.nanoTime();
+                for (String key : keys) {
+                    sink ^= strategy.hash(key);
+                }
+                best = Math.min(best, System.nanoTime() - start);
+            }
+            System.out.printf("%-14s %-10s %9d %9d %12.3f %11d %9.1f%s%n", name, strategy, keys.length, slots,
+                    chiSquare(counts) / (slots - 1), maxCluster(counts), best / (double) keys.length,
+                    // keeps the hashing loop from being optimized away
+                    sink == 42 ? " " : "");
+        }
+    }
+
+    /**
+     * Calculates chi-square of the slot counts against the uniform distribution
+     * @param counts - number of keys per slot
+     * @return chi-square value
+     */
+    private static double chiSquare(int[] counts) {
+        long total = 0;
+        for (int count : counts) {
+            total += count;
+        }
+        double expected = total / (double) counts.length;
+        double chiSquare = 0;
+        for (int count : counts) {
+            double diff = count - expected;
+            chiSquare += diff * diff / expected;
+        }
+        return chiSquare;
+    }
+
+    /**
+     * Calculates the longest run of occupied slots that linear probing builds from the slot counts
+     * @param counts - number of keys per slot
+     * @return length of the longest run
+     */
+    private static int maxCluster(int[] counts) {
+        int slots = counts.length;
+        // keys that did not fit into their slot move on to the next ones, two passes handle the wrap around
+        long carry = 0;
+        int run = 0;
+        int maxRun = 0;
+        for (int i = 0; i < 2 * slots; i++) {
+            long waiting = carry + counts[i % slots];
+            if (waiting > 0) {
+                run++;
+                carry = waiting - 1;
+            } else {
+                run = 0;
+            }
+            maxRun = Math.max(maxRun, run);
+        }
+        return Math.min(maxRun, slots);
+    }
+
+    /**
+     * Reads the keys from the file, one per line, empty lines are skipped
+     * @param fileName - file to read
+     * @return keys
+     * @throws IOException in case of the file cannot be read
+     */
+    private static String[] readKeys(String fileName) throws IOException {
+        List<String> keys = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(Paths.get(fileName), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isEmpty()) {
+                    keys.add(line);
+                }
+            }
+        }
+        return keys.toArray(new String[0]);
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Author: Svetlana Dukkardt
+ * Student number: 040851905
+ * Lab: 8
+ * Date: 18 October, 2026
+ * Purpose: Measures insert and lookup performance of the hash table
+ */
+
+package lab8;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures insert, lookup (hit and miss) and churn performance of {@link HashExample}
+ * for each {@link TableStrategy table strategy}, {@link KeyDistribution key distribution} and table size.
+ *
+ * @author Svetlana Dukkardt
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HashExampleBenchmark {
+    /**
+     * Table configuration
+     */
+    @Param({"LEGACY", "RESIZABLE", "RESIZABLE_MURMUR3", "RESIZABLE_XXHASH64"})
+    public TableStrategy table;
+    /**
+     * Distribution of the keys
+     */
+    @Param({"RANDOM", "SHARED_PREFIX", "SHORT"})
+    public KeyDistribution distribution;
+    /**
+     * Number of stored keys
+     */
+    @Param({"100", "10000", "1000000"})
+    public int size;
+    /**
+     * False positive rate of the Bloom filter, 0 - no filter
+     */
+    @Param({"0", "0.01"})
+    public double bloomFilter;
+
+    /**
+     * Keys that are stored in the table
+     */
+    private String[] hits;
+    /**
+     * Keys that are not stored in the table
+     */
+    private String[] misses;
+    /**
+     * Table with all {@link HashExampleBenchmark#hits} added
+     */
+    private HashExample hashExample;
+    /**
+     * Index of the next key to search
+     */
+    private int next;
+
+    /**
+     * Generates the keys and fills the table
+     */
+    @Setup
+    public void setUp() {
+        String[] keys = distribution.generate(size * 2, 42);
+        hits = Arrays.copyOfRange(keys, 0, size);
+        misses = Arrays.copyOfRange(keys, size, size * 2);
+        hashExample = fill(create(), hits);
+    }
+
+    /**
+     * Adds all keys to an empty table
+     * @return filled table
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public HashExample insertAll() {
+        return fill(create(), hits);
+    }
+
+    /**
+     * Searches for a stored key
+     * @return index of the key
+     */
+    @Benchmark
+    public int searchHit() {
+        return hashExample.search(hits[nextIndex()]);
+    }
+
+    /**
+     * Searches for a key that is not stored
+     * @return -1
+     */
+    @Benchmark
+    public int searchMiss() {
+        return hashExample.search(misses[nextIndex()]);
+    }
+
+    /**
+     * Replaces a stored key with a key that is not stored and searches for it,
+     * so the table keeps its size while the tombstones are produced and compacted
+     * @return index of the added key
+     */
+    @Benchmark
+    public int churn() {
+        int index = nextIndex();
+        String removed = hits[index];
+        hashExample.remove(removed);
+        hits[index] = misses[index];
+        misses[index] = removed;
+        hashExample.add(hits[index]);
+        return hashExample.search(hits[index]);
+    }
+
+    /**
+     * @return empty table of the benchmarked configuration
+     */
+    private HashExample create() {
+        HashExample hashExample = table.create(size);
+        hashExample.setBloomFilter(bloomFilter);
+        return hashExample;
+    }
+
+    /**
+     * @return index of the next key to search
+     */
+    private int nextIndex() {
+        int index = next;
+        next = index + 1 == size ? 0 : index + 1;
+        return index;
+    }
+
+    /**
+     * Adds the keys to the table
+     * @param hashExample - table to fill
+     * @param keys - keys to add
+     * @return filled table
+     */
+    static HashExample fill(HashExample hashExample, String[] keys) {
+        for (String key : keys) {
+            hashExample.add(key);
+        }
+        return hashExample;
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Author: Svetlana Dukkardt
+ * Student number: 040851905
+ * Lab: 8
+ * Date: 18 October, 2026
+ * Purpose: Generates load on the hash table server and reports throughput and latency
+ */
+
+package lab8;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Generates load on {@link HashServer} over localhost and prints the throughput and the latency percentiles.
+ * Every connection sends batches of pipelined requests (20% ADD, 80% SEARCH of random keys)
+ * and waits for all the responses of the batch, the latency of a request is the round trip of its batch.
+ * <p>
+ * Arguments: [connections] [pipeline depth] [seconds] [port]. Without the port an in-process server
+ * with an empty resizable table is started.
+ *
+ * @author Svetlana Dukkardt
+ */
+public class HashServerLoadGenerator {
+    /**
+     * Number of distinct keys per connection
+     */
+    private static final int KEYS = 100_000;
+    /**
+     * Prefix of the add request
+     */
+    private static final byte[] ADD = "ADD ".getBytes(StandardCharsets.US_ASCII);
+    /**
+     * Prefix of the search request
+     */
+    private static final byte[] SEARCH = "SEARCH ".getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * Constructor.
+     */
+    private HashServerLoadGenerator() {}
+
+    /**
+     * Entry point.
+     * @param args - connections, pipeline depth, seconds and port of a running server
+     * @throws Exception in case of the server cannot be reached
+     */
+    public static void main(String[] args) throws Exception {
+        int connections = args.length > 0 ? Integer.parseInt(args[0]) : 4;
+        int pipeline = args.length > 1 ? Integer.parseInt(args[1]) : 64;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+        HashServer server = null;
+        Thread serverThread = null;
+        AtomicReference<IOException> serverError = new AtomicReference<>();
+        int port;
+        if (args.length > 3) {
+            port = Integer.parseInt(args[3]);
+        } else {
+            server = new HashServer(HashExample.resizable(), new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+            port = server.getPort();
+            HashServer running = server;
+            serverThread = new Thread(() -> {
+                try {
+                    running.run();
+                } catch (IOException e) {
+                    serverError.set(e);
+                }
+            });
+            serverThread.start();
+        }
+
+        Client[] clients = new Client[connections];
+        Thread[] threads = new Thread[connections];
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        for (int i = 0; i < connections; i++) {
+            clients[i] = new Client(port, pipeline, deadline, i);
+            threads[i] = new Thread(clients[i]);
+        }
+        long start = System.nanoTime();
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        long requests = 0;
+        int batches = 0;
+        for (int i = 0; i < connections; i++) {
+            threads[i].join();
+            if (clients[i].error != null) {
+                throw clients[i].error;
+            }
+            requests += (long) clients[i].batches * pipeline;
+            batches += clients[i].batches;
+        }
+        double elapsed = (System.nanoTime() - start) / 1e9;
+
+        long[] latencies = new long[batches];
+        int n = 0;
+        for (Client client : clients) {
+            System.arraycopy(client.latencies, 0, latencies, n, client.batches);
+            n += client.batches;
+        }
+        Arrays.sort(latencies);
+        System.out.printf("connections: %d, pipeline: %d, requests: %d, time: %.1f s%n",
+                connections, pipeline, requests, elapsed);
+        System.out.printf("throughput: %.0f ops/sec%n", requests / elapsed);
+        System.out.printf("latency: p50 %.1f us, p99 %.1f us, max %.1f us%n",
+                percentile(latencies, 0.50) / 1e3, percentile(latencies, 0.99) / 1e3,
+                (batches == 0 ? 0 : latencies[batches - 1]) / 1e3);
+
+        if (server != null) {
+            server.stop();
+            serverThread.join();
+            if (serverError.get() != null) {
+                throw serverError.get();
+            }
+        }
+    }
+
+    /**
+     * @param sorted - sorted values
+     * @param p - percentile between 0 and 1
+     * @return value of the percentile, 0 if there are no values
+     */
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(p * sorted.length) - 1)];
+    }
+
+    /**
+     * Connection that sends the pipelined batches
+     */
+    private static class Client implements Runnable {
+        /**
+         * Port of the server
+         */
+        private final int port;
+        /**
+         * Number of requests per batch
+         */
+        private final int pipeline;
+        /**
+         * Time to stop
+         */
+        private final long deadline;
+        /**
+         * Seed of the keys and the operations
+         */
+        private final int seed;
+        /**
+         * Round trip of every batch in nanoseconds
+         */
+        private long[] latencies = new long[1024];
+        /**
+         * Number of completed batches
+         */
+        private int batches;
+        /**
+         * Failure of the connection, null if none
+         */
+        private Exception error;
+
+        /**
+         * Constructor.
+         * @param port - port of the server
+         * @param pipeline - number of requests per batch
+         * @param deadline - time to stop
+         * @param seed - seed of the keys and the operations
+         */
+        Client(int port, int pipeline, long deadline, int seed) {
+            this.port = port;
+            this.pipeline = pipeline;
+            this.deadline = deadline;
+            this.seed = seed;
+        }
+
+        @Override
+        public void run() {
+            String[] keys = KeyDistribution.RANDOM.generate(KEYS, seed);
+            Random random = new Random(seed);
+            try (SocketChannel channel = SocketChannel.open(new InetSocketAddress(InetAddress.getLoopbackAddress(), port))) {
+                channel.socket().setTcpNoDelay(true);
+                ByteBuffer request = ByteBuffer.allocate(64 * 1024);
+                ByteBuffer response = ByteBuffer.allocate(64 * 1024);
+                while (System.nanoTime() < deadline) {
+                    request.clear();
+                    for (int i = 0; i < pipeline; i++) {
+                        byte[] key = keys[random.nextInt(KEYS)].getBytes(StandardCharsets.UTF_8);
+                        if (request.remaining() < key.length + 8) {
+                            ByteBuffer tmp = ByteBuffer.allocate(request.capacity() * 2 + key.length);
+                            request.flip();
+                            request = tmp.put(request);
+                        }
+                        request.put(random.nextInt(5) == 0 ? ADD : SEARCH).put(key).put((byte) '\n');
+                    }
+                    request.flip();
+                    long start = System.nanoTime();
+                    while (request.hasRemaining()) {
+                        channel.write(request);
+                    }
+                    int lines = 0;
+                    while (lines < pipeline) {
+                        response.clear();
+                        if (channel.read(response) < 0) {
+                            throw new IOException("Server closed the connection");
+                        }
+                        for (int i = 0; i < response.position(); i++) {
+                            if (response.get(i) == '\n') {
+                                lines++;
+                            }
+                        }
+                    }
+                    if (batches == latencies.length) {
+                        latencies = Arrays.copyOf(latencies, batches * 2);
+                    }
+                    latencies[batches++] = System.nanoTime() - start;
+                }
+            } catch (Exception e) {
+                error = e;
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Author: Svetlana Dukkardt
+ * Student number: 040851905
+ * Lab: 8
+ * Date: 18 October, 2026
+ * Purpose: Measures the speed of the hash functions
+ */
+
+package lab8;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time to hash one key with each {@link HashStrategy hash strategy}.
+ * The distribution quality of the same strategies is printed by {@link HashDistributionReport}.
+ *
+ * @author Svetlana Dukkardt
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HashStrategyBenchmark {
+    /**
+     * Number of keys to cycle through
+     */
+    private static final int KEYS = 1 << 16;
+
+    /**
+     * Hash function
+     */
+    @Param({"TWO_CHAR", "HASH_CODE", "MURMUR3", "XXHASH64"})
+    public HashStrategy strategy;
+    /**
+     * Distribution of the keys
+     */
+    @Param({"RANDOM", "SHARED_PREFIX", "SHORT"})
+    public KeyDistribution distribution;
+
+    /**
+     * Keys to hash
+     */
+    private String[] keys;
+    /**
+     * Index of the next key to hash
+     */
+    private int next;
+
+    /**
+     * Generates the keys
+     */
+    @Setup
+    public void setUp() {
+        keys = distribution.generate(KEYS, 42);
+    }
+
+    /**
+     * Hashes the next key
+     * @return hash value
+     */
+    @Benchmark
+    public long hash() {
+        next = (next + 1) & (KEYS - 1);
+        return strategy.hash(keys[next]);
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Author: Svetlana Dukkardt
+ * Student number: 040851905
+ * Lab: 8
+ * Date: 18 October, 2026
+ * Purpose: Prints insert throughput of the hash table with and without the journal
+ */
+
+package lab8;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Prints insert throughput of {@link HashExample} without the journal, with the {@link HashJournal journal}
+ * of different group commit delays, and with a force per insert.
+ * The time includes closing the journal, so all the inserts are durable when the clock stops.
+ *
+ * @author Svetlana Dukkardt
+ */
+public class JournalThroughputReport {
+    /**
+     * Number of inserts of the group commit runs
+     */
+    private static final int INSERTS = 1_000_000;
+    /**
+     * Number of inserts of the run that forces every insert
+     */
+    private static final int FORCED_INSERTS = 2_000;
+    /**
+     * Group commit delays to report, in milliseconds
+     */
+    private static final long[] DELAYS = {0, 1, 10};
+
+    /**
+     * Constructor.
+     */
+    private JournalThroughputReport() {}
+
+    /**
+     * Entry point.
+     * @param args - directory for the journal files, the temporary directory by default
+     * @throws IOException in case of the journal cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        Path directory = args.length > 0 ? Path.of(args[0]) : Path.of(System.getProperty("java.io.tmpdir"));
+        String[] keys = KeyDistribution.RANDOM.generate(INSERTS, 42);
+        System.out.printf("%-22s %10s %14s %10s%n", "journal", "inserts", "inserts/sec", "forces");
+
+        // warm up the table code
+        HashExampleBenchmark.fill(HashExample.resizable(), keys);
+        long start = System.nanoTime();
+        HashExampleBenchmark.fill(HashExample.resizable(), keys);
+        print("off", INSERTS, System.nanoTime() - start, 0);
+
+        for (long delay : DELAYS) {
+            run("group commit " + delay + " ms", directory, keys, INSERTS, delay, false);
+        }
+        run("force per insert", directory, keys, FORCED_INSERTS, 0, true);
+    }
+
+    /**
+     * Inserts the keys into a table with the journal and prints the throughput
+     * @param name - name of the run
+     * @param directory - directory for the journal file
+     * @param keys - keys to insert
+     * @param count - number of keys to insert
+     * @param delay - group commit delay in milliseconds
+     * @param syncEach - true to wait for the force after every insert
+     * @throws IOException in case of the journal cannot be written
+     */
+    private static void run(String name, Path directory, String[] keys, int count, long delay, boolean syncEach)
+            throws IOException {
+        Path file = Files.createTempFile(directory, "journal", ".log");
+        try {
+            HashExample hashExample = HashExample.resizable();
+            long start = System.nanoTime();
+            long forces;
+            try (HashJournal journal = HashJournal.open(file, hashExample, delay)) {
+                for (int i = 0; i < count; i++) {
+                    hashExample.add(keys[i]);
+                    if (syncEach) {
+                        journal.sync();
+                    }
+                }
+                journal.sync();
+                forces = journal.getForces();
+            }
+            print(name, count, System.nanoTime() - start, forces);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Prints a line of the report
+     * @param name - name of the run
+     * @param count - number of inserts
+     * @param nanos - time spent
+     * @param forces - number of forces
+     */
+    private static void print(String name, int count, long nanos, long forces) {
+        System.out.printf("%-22s %10d %14.0f %10d%n", name, count, count / (nanos / 1e9), forces);
+    }
+}
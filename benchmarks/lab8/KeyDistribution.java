@@ -0,0 +1,109 @@
+/*
+ * Author: Svetlana Dukkardt
+ * Student number: 040851905
+ * Lab: 8
+ * Date: 18 October, 2026
+ * Purpose: Generates benchmark keys with different distributions
+ */
+
+package lab8;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Distributions of the keys that are used by the benchmarks.
+ * All generated keys are unique, so the first half of a generated array can be stored
+ * and the second half can be used for misses.
+ *
+ * @author Svetlana Dukkardt
+ */
+public enum KeyDistribution {
+    /**
+     * Random alphanumeric keys of 8 to 16 characters
+     */
+    RANDOM {
+        @Override
+        public String[] generate(int count, long seed) {
+            Random random = new Random(seed);
+            Set<String> unique = new HashSet<>(count * 2);
+            String[] keys = new String[count];
+            int i = 0;
+            while (i < count) {
+                char[] chars = new char[8 + random.nextInt(9)];
+                for (int c = 0; c < chars.length; c++) {
+                    chars[c] = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+                }
+                String key = new String(chars);
+                if (unique.add(key)) {
+                    keys[i++] = key;
+                }
+            }
+            return keys;
+        }
+    },
+    /**
+     * Keys that start with one of four two-letter prefixes, as the legacy hash sees only them
+     */
+    SHARED_PREFIX {
+        @Override
+        public String[] generate(int count, long seed) {
+            String[] prefixes = {"ab", "ba", "cd", "xy"};
+            String[] keys = shuffledCounters(count, seed);
+            for (int i = 0; i < count; i++) {
+                keys[i] = prefixes[i & 3] + keys[i];
+            }
+            return keys;
+        }
+    },
+    /**
+     * Keys of one to four characters
+     */
+    SHORT {
+        @Override
+        public String[] generate(int count, long seed) {
+            return shuffledCounters(count, seed);
+        }
+    };
+
+    /**
+     * Characters the keys are built from
+     */
+    private static final String ALPHABET = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+
+    /**
+     * Generates unique keys
+     * @param count - number of keys
+     * @param seed - seed of the random generator
+     * @return generated keys
+     */
+    public abstract String[] generate(int count, long seed);
+
+    /**
+     * Generates the numbers from 0 to count - 1 encoded with {@link KeyDistribution#ALPHABET} in random order
+     * @param count - number of keys
+     * @param seed - seed of the random generator
+     * @return generated keys
+     */
+    private static String[] shuffledCounters(int count, long seed) {
+        String[] keys = new String[count];
+        for (int i = 0; i < count; i++) {
+            StringBuilder key = new StringBuilder();
+            int n = i;
+            do {
+                key.append(ALPHABET.charAt(n % ALPHABET.length()));
+                n /= ALPHABET.length();
+            } while (n > 0);
+            keys[i] = key.toString();
+        }
+        Random random = new Random(seed);
+        for (int i = count - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            String tmp = keys[i];
+            keys[i] = keys[j];
+            keys[j] = tmp;
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Author: Svetlana Dukkardt
+ * Student number: 040851905
+ * Lab: 8
+ * Date: 18 October, 2026
+ * Purpose: Prints bytes per key of the on-heap and the off-heap hash tables
+ */
+
+package lab8;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+
+/**
+ * Prints bytes per stored key of the {@link OffHeapHashExample off-heap table} and of the
+ * {@link HashExample String[] layout} for each {@link KeyDistribution key distribution} and table size.
+ * The off-heap figure counts the reserved arena, not only the used bytes, and the String[] layout
+ * is estimated for compressed references. The heap growth of both tables and the growth of the direct
+ * buffer pool of the off-heap table are measured after a full collection as a cross-check.
+ *
+ * @author Svetlana Dukkardt
+ */
+public class MemoryFootprintReport {
+    /**
+     * Table sizes to report
+     */
+    private static final int[] SIZES = {10_000, 1_000_000};
+
+    /**
+     * Constructor.
+     */
+    private MemoryFootprintReport() {}
+
+    /**
+     * Entry point.
+     * @param args - not used
+     */
+    public static void main(String[] args) {
+        System.out.printf("%-14s %9s %12s %12s %12s %12s %12s%n",
+                "distribution", "size", "off-heap", "String[]", "heap off", "direct off", "heap String[]");
+        for (KeyDistribution distribution : KeyDistribution.values()) {
+            for (int size : SIZES) {
+                String[] keys = distribution.generate(size, 42);
+
+                long before = usedHeap();
+                long directBefore = usedDirect();
+                OffHeapHashExample offHeap = new OffHeapHashExample(size, HashExample.DEFAULT_LOAD_FACTOR,
+                        HashStrategy.HASH_CODE);
+                for (String key : keys) {
+                    offHeap.add(key);
+                }
+                long offHeapGrowth = usedHeap() - before;
+                long directGrowth = usedDirect() - directBefore;
+
+                // copies, so the measured growth includes the strings themselves
+                before = usedHeap();
+                HashExample onHeap = new HashExample(size, HashExample.DEFAULT_LOAD_FACTOR);
+                for (String key : keys) {
+                    onHeap.add(new String(key.toCharArray()));
+                }
+                long onHeapGrowth = usedHeap() - before;
+
+                System.out.printf("%-14s %9d %12.1f %12.1f %12.1f %12.1f %12.1f%n",
+                        distribution, offHeap.size(), offHeap.getBytesPerKey(), offHeap.getStringLayoutBytesPerKey(),
+                        offHeapGrowth / (double) offHeap.size(), directGrowth / (double) offHeap.size(),
+                        onHeapGrowth / (double) onHeap.size());
+                // the keys and both tables have to stay reachable while the heap is measured
+                Reference.reachabilityFence(keys);
+                Reference.reachabilityFence(offHeap);
+                Reference.reachabilityFence(onHeap);
+            }
+        }
+    }
+
+    /**
+     * Collects the garbage and returns the used heap
+     * @return used heap in bytes
+     */
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * @return bytes reserved by the direct byte buffers
+     */
+    private static long usedDirect() {
+        for (BufferPoolMXBean pool : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)) {
+            if ("direct".equals(pool.getName())) {
+                return pool.getMemoryUsed();
+            }
+        }
+        return 0;
+    }
+}
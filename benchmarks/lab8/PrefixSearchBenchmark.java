@@ -0,0 +1,109 @@
+/*
+ * Author: Svetlana Dukkardt
+ * Student number: 040851905
+ * Lab: 8
+ * Date: 18 October, 2026
+ * Purpose: Measures the prefix search with the ordered index against a full scan
+ */
+
+package lab8;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link HashExample#searchPrefix(String)} with the {@link PrefixIndex prefix index}
+ * against the scan of all slots. Every search iterates all matching strings.
+ *
+ * @author Svetlana Dukkardt
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrefixSearchBenchmark {
+    /**
+     * Number of stored keys
+     */
+    @Param({"10000", "1000000"})
+    public int size;
+    /**
+     * Length of the searched prefixes, every character of the random keys divides the matches by 62
+     */
+    @Param({"2", "3"})
+    public int prefixLength;
+
+    /**
+     * Table with the prefix index
+     */
+    private HashExample hashExample;
+    /**
+     * Prefixes to search, taken from the stored keys
+     */
+    private String[] prefixes;
+    /**
+     * Index of the next prefix to search
+     */
+    private int next;
+
+    /**
+     * Fills the table and builds the prefixes
+     */
+    @Setup
+    public void setUp() {
+        String[] keys = KeyDistribution.RANDOM.generate(size, 42);
+        hashExample = HashExampleBenchmark.fill(TableStrategy.RESIZABLE.create(size), keys);
+        hashExample.setPrefixIndex(true);
+        prefixes = new String[1024];
+        for (int i = 0; i < prefixes.length; i++) {
+            prefixes[i] = keys[i % size].substring(0, prefixLength);
+        }
+    }
+
+    /**
+     * Iterates the matching strings of the index
+     * @return number of matching strings
+     */
+    @Benchmark
+    public int indexed() {
+        int count = 0;
+        for (String ignored : hashExample.searchPrefix(nextPrefix())) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Scans all slots for the matching strings
+     * @return number of matching strings
+     */
+    @Benchmark
+    public int fullScan() {
+        int count = 0;
+        for (String ignored : hashExample.scanPrefix(nextPrefix())) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * @return next prefix to search
+     */
+    private String nextPrefix() {
+        next = (next + 1) & (prefixes.length - 1);
+        return prefixes[next];
+    }
+}
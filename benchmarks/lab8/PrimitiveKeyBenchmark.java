@@ -0,0 +1,125 @@
+/*
+ * Author: Svetlana Dukkardt
+ * Student number: 040851905
+ * Lab: 8
+ * Date: 18 October, 2026
+ * Purpose: Compares the table of int keys with the string table used for numeric identifiers
+ */
+
+package lab8;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link IntHashExample} with {@link HashExample} that stores the same numeric identifiers
+ * converted by {@link Integer#toString(int)}, the conversion is a part of every string operation.
+ * Run with -prof gc to see the allocation per operation.
+ *
+ * @author Svetlana Dukkardt
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrimitiveKeyBenchmark {
+    /**
+     * Number of keys
+     */
+    @Param({"1000000"})
+    public int size;
+
+    /**
+     * Random identifiers
+     */
+    private int[] ids;
+    /**
+     * Filled table of int keys
+     */
+    private IntHashExample intTable;
+    /**
+     * Filled table of the identifier strings
+     */
+    private HashExample stringTable;
+
+    /**
+     * Generates the identifiers and fills the tables
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        ids = new int[size];
+        for (int i = 0; i < size; i++) {
+            ids[i] = random.nextInt();
+        }
+        intTable = fillInts();
+        stringTable = fillStrings();
+    }
+
+    /**
+     * Fills an empty table of int keys
+     * @return filled table
+     */
+    @Benchmark
+    public IntHashExample fillInts() {
+        IntHashExample table = new IntHashExample();
+        for (int id : ids) {
+            table.add(id);
+        }
+        return table;
+    }
+
+    /**
+     * Fills an empty string table with the identifiers
+     * @return filled table
+     */
+    @Benchmark
+    public HashExample fillStrings() {
+        HashExample table = HashExample.resizable();
+        for (int id : ids) {
+            table.add(Integer.toString(id));
+        }
+        return table;
+    }
+
+    /**
+     * Searches for all identifiers in the table of int keys
+     * @return sum of the indexes
+     */
+    @Benchmark
+    public long searchInts() {
+        long sum = 0;
+        for (int id : ids) {
+            sum += intTable.search(id);
+        }
+        return sum;
+    }
+
+    /**
+     * Searches for all identifiers in the string table
+     * @return sum of the indexes
+     */
+    @Benchmark
+    public long searchStrings() {
+        long sum = 0;
+        for (int id : ids) {
+            sum += stringTable.search(Integer.toString(id));
+        }
+        return sum;
+    }
+}
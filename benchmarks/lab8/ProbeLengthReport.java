@@ -0,0 +1,70 @@
+/*
+ * Author: Svetlana Dukkardt
+ * Student number: 040851905
+ * Lab: 8
+ * Date: 18 October, 2026
+ * Purpose: Prints probe lengths of the hash table for each hash strategy
+ */
+
+package lab8;
+
+import java.util.Arrays;
+
+/**
+ * Prints average and maximum probe length of hits and misses
+ * for each {@link TableStrategy table strategy}, {@link KeyDistribution key distribution} and table size.
+ *
+ * @author Svetlana Dukkardt
+ */
+public class ProbeLengthReport {
+    /**
+     * Table sizes to report
+     */
+    private static final int[] SIZES = {100, 10_000, 1_000_000};
+
+    /**
+     * Constructor.
+     */
+    private ProbeLengthReport() {}
+
+    /**
+     * Entry point.
+     * @param args - not used
+     */
+    public static void main(String[] args) {
+        System.out.printf("%-10s %-14s %9s %9s %9s %9s %9s %9s%n",
+                "table", "distribution", "size", "stored", "hit avg", "hit max", "miss avg", "miss max");
+        for (TableStrategy table : TableStrategy.values()) {
+            for (KeyDistribution distribution : KeyDistribution.values()) {
+                for (int size : SIZES) {
+                    String[] keys = distribution.generate(size * 2, 42);
+                    String[] hits = Arrays.copyOfRange(keys, 0, size);
+                    String[] misses = Arrays.copyOfRange(keys, size, size * 2);
+                    HashExample hashExample = HashExampleBenchmark.fill(table.create(size), hits);
+                    long[] hit = probeLengths(hashExample, hits);
+                    long[] miss = probeLengths(hashExample, misses);
+                    System.out.printf("%-10s %-14s %9d %9d %9.2f %9d %9.2f %9d%n",
+                            table, distribution, size, hashExample.size(),
+                            hit[0] / (double) size, hit[1], miss[0] / (double) size, miss[1]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Calculates probe lengths of the keys
+     * @param hashExample - table to search in
+     * @param keys - keys to search
+     * @return total and maximum probe length
+     */
+    private static long[] probeLengths(HashExample hashExample, String[] keys) {
+        long total = 0;
+        long max = 0;
+        for (String key : keys) {
+            int probes = hashExample.probeLength(key);
+            total += probes;
+            max = Math.max(max, probes);
+        }
+        return new long[]{total, max};
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Author: Svetlana Dukkardt
+ * Student number: 040851905
+ * Lab: 8
+ * Date: 18 October, 2026
+ * Purpose: Prints the lookup latency percentiles of the thread-safe tables while they grow
+ */
+
+package lab8;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Prints the latency percentiles of the lookups of a reader thread while a writer thread grows the table
+ * through several resizes. The tables are {@link HashExample} guarded by a {@link ReadWriteLock},
+ * where the reader waits for every batch of inserts and every resize, {@link ConcurrentHashExample}
+ * and {@link CopyOnWriteHashExample}, whose readers never block.
+ * <p>
+ * With fewer cores than threads the reader is also preempted by the writer,
+ * which shows up in the highest percentiles of every table.
+ *
+ * @author Svetlana Dukkardt
+ */
+public class ResizeLatencyReport {
+    /**
+     * Number of keys stored before the writer starts, the reader searches for them
+     */
+    private static final int INITIAL_SIZE = 1 << 18;
+    /**
+     * Number of keys the writer adds
+     */
+    private static final int ADDED = 3_000_000;
+    /**
+     * Number of keys the writer adds at once
+     */
+    private static final int BATCH_SIZE = 20_000;
+    /**
+     * Maximum number of recorded lookups
+     */
+    private static final int MAX_SAMPLES = 20_000_000;
+    /**
+     * Reported percentiles
+     */
+    private static final double[] PERCENTILES = {50, 99, 99.9, 99.99};
+
+    /**
+     * Constructor.
+     */
+    private ResizeLatencyReport() {}
+
+    /**
+     * Entry point.
+     * @param args - not used
+     * @throws InterruptedException in case of the main thread is interrupted
+     */
+    public static void main(String[] args) throws InterruptedException {
+        String[] keys = KeyDistribution.RANDOM.generate(INITIAL_SIZE + ADDED, 42);
+        long[] samples = new long[MAX_SAMPLES];
+        System.out.printf("%-14s %10s", "table", "lookups");
+        for (double percentile : PERCENTILES) {
+            System.out.printf(" %10s", "p" + percentile);
+        }
+        System.out.printf(" %10s %10s%n", "max", "write ms");
+        for (int round = 0; round < 2; round++) {
+            // the first round warms up the code
+            boolean print = round == 1;
+            run("locked", new LockedTable(), keys, samples, print);
+            run("concurrent", new ConcurrentTable(), keys, samples, print);
+            run("copy-on-write", new CopyOnWriteTable(), keys, samples, print);
+        }
+    }
+
+    /**
+     * Fills the initial keys, then measures the lookups of the reader while the writer adds the rest
+     * @param name - name of the table
+     * @param table - empty table
+     * @param keys - keys to store
+     * @param samples - buffer for the lookup latencies
+     * @param print - true to print the result
+     * @throws InterruptedException in case of the main thread is interrupted
+     */
+    private static void run(String name, Table table, String[] keys, long[] samples, boolean print)
+            throws InterruptedException {
+        table.addAll(keys, 0, INITIAL_SIZE);
+        long[] writeNanos = new long[1];
+        Thread writer = new Thread(() -> {
+            long start = System.nanoTime();
+            for (int from = INITIAL_SIZE; from < keys.length; from += BATCH_SIZE) {
+                table.addAll(keys, from, Math.min(keys.length, from + BATCH_SIZE));
+            }
+            writeNanos[0] = System.nanoTime() - start;
+        }, "writer");
+        writer.start();
+        int count = 0;
+        int missing = 0;
+        for (int i = 0; writer.isAlive() && count < samples.length; i = (i + 1) % INITIAL_SIZE) {
+            long start = System.nanoTime();
+            int index = table.search(keys[i]);
+            samples[count++] = System.nanoTime() - start;
+            if (index < 0) {
+                missing++;
+            }
+        }
+        writer.join();
+        if (missing > 0) {
+            throw new IllegalStateException(name + ": " + missing + " stored keys are not found");
+        }
+        if (print) {
+            Arrays.sort(samples, 0, count);
+            System.out.printf("%-14s %10d", name, count);
+            for (double percentile : PERCENTILES) {
+                System.out.printf(" %10s", format(samples[(int) Math.min(count - 1, Math.ceil(count * percentile / 100) - 1)]));
+            }
+            System.out.printf(" %10s %10d%n", format(samples[count - 1]), writeNanos[0] / 1_000_000);
+        }
+    }
+
+    /**
+     * Formats the latency
+     * @param nanos - latency in nanoseconds
+     * @return latency in microseconds
+     */
+    private static String format(long nanos) {
+        return String.format("%.1f us", nanos / 1e3);
+    }
+
+    /**
+     * Table under measurement
+     */
+    private interface Table {
+        /**
+         * Searches for a key
+         * @param key - key to search
+         * @return index of the key, or -1 if the key is not found
+         */
+        int search(String key);
+
+        /**
+         * Adds the keys of the range
+         * @param keys - keys
+         * @param from - first key to add
+         * @param to - end of the range, exclusive
+         */
+        void addAll(String[] keys, int from, int to);
+    }
+
+    /**
+     * {@link HashExample} guarded by a read-write lock, the batch and its resizes exclude the reader
+     */
+    private static final class LockedTable implements Table {
+        /**
+         * Guarded table
+         */
+        private final HashExample hashExample = HashExample.resizable();
+        /**
+         * Guard of the table
+         */
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+        @Override
+        public int search(String key) {
+            lock.readLock().lock();
+            try {
+                return hashExample.search(key);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        @Override
+        public void addAll(String[] keys, int from, int to) {
+            lock.writeLock().lock();
+            try {
+                for (int i = from; i < to; i++) {
+                    hashExample.add(keys[i]);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * {@link ConcurrentHashExample} that is filled key by key
+     */
+    private static final class ConcurrentTable implements Table {
+        /**
+         * Table
+         */
+        private final ConcurrentHashExample hashExample = new ConcurrentHashExample();
+
+        @Override
+        public int search(String key) {
+            return hashExample.search(key);
+        }
+
+        @Override
+        public void addAll(String[] keys, int from, int to) {
+            for (int i = from; i < to; i++) {
+                hashExample.add(keys[i]);
+            }
+        }
+    }
+
+    /**
+     * {@link CopyOnWriteHashExample} that grows at most once per batch
+     */
+    private static final class CopyOnWriteTable implements Table {
+        /**
+         * Table
+         */
+        private final CopyOnWriteHashExample hashExample = new CopyOnWriteHashExample();
+
+        @Override
+        public int search(String key) {
+            return hashExample.search(key);
+        }
+
+        @Override
+        public void addAll(String[] keys, int from, int to) {
+            hashExample.addAll(Arrays.copyOfRange(keys, from, to));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Author: Svetlana Dukkardt
+ * Student number: 040851905
+ * Lab: 8
+ * Date: 18 October, 2026
+ * Purpose: Prints the time the snapshot of the hash table takes to load for different table sizes
+ */
+
+package lab8;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Prints the save and load times of {@link HashSnapshot} next to the time the same table takes
+ * to be rebuilt by adding every key, for growing table sizes.
+ *
+ * @author Svetlana Dukkardt
+ */
+public class SnapshotLoadReport {
+    /**
+     * Table sizes to report
+     */
+    private static final int[] SIZES = {10_000, 100_000, 1_000_000, 4_000_000};
+    /**
+     * Number of measured runs, the fastest one is reported
+     */
+    private static final int RUNS = 5;
+
+    /**
+     * Constructor.
+     */
+    private SnapshotLoadReport() {}
+
+    /**
+     * Entry point.
+     * @param args - not used
+     * @throws IOException in case of the snapshot cannot be written or read
+     */
+    public static void main(String[] args) throws IOException {
+        Path file = Files.createTempFile("lab8", ".snapshot");
+        try {
+            System.out.printf("%9s %12s %10s %10s %10s %12s%n",
+                    "size", "file bytes", "save ms", "load ms", "rebuild ms", "load ns/key");
+            for (int size : SIZES) {
+                String[] keys = KeyDistribution.RANDOM.generate(size, 42);
+                HashExample hashExample = HashExampleBenchmark.fill(HashExample.resizable(), keys);
+                long save = Long.MAX_VALUE;
+                long load = Long.MAX_VALUE;
+                long rebuild = Long.MAX_VALUE;
+                for (int run = 0; run < RUNS; run++) {
+                    long start = System.nanoTime();
+                    HashSnapshot.save(hashExample, file);
+                    save = Math.min(save, System.nanoTime() - start);
+                    start = System.nanoTime();
+                    HashExample loaded = HashSnapshot.load(file);
+                    load = Math.min(load, System.nanoTime() - start);
+                    if (loaded.size() != hashExample.size()) {
+                        throw new IllegalStateException("Snapshot lost strings");
+                    }
+                    start = System.nanoTime();
+                    HashExampleBenchmark.fill(HashExample.resizable(), keys);
+                    rebuild = Math.min(rebuild, System.nanoTime() - start);
+                }
+                System.out.printf("%9d %12d %10.1f %10.1f %10.1f %12.1f%n", size, Files.size(file),
+                        save / 1e6, load / 1e6, rebuild / 1e6, load / (double) size);
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
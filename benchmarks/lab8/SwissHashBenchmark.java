@@ -0,0 +1,152 @@
+/*
+ * Author: Svetlana Dukkardt
+ * Student number: 040851905
+ * Lab: 8
+ * Date: 18 October, 2026
+ * Purpose: Compares the lookups of the control-byte table and the linear probing table
+ */
+
+package lab8;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares hits and misses of {@link SwissHashExample} with the resizable {@link HashExample}
+ * filled up to the same 7/8 load, where the linear probing builds long clusters.
+ * Every benchmark invocation searches all keys of the batch.
+ *
+ * @author Svetlana Dukkardt
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SwissHashBenchmark {
+    /**
+     * Load factor of both tables
+     */
+    private static final float LOAD_FACTOR = 0.875f;
+    /**
+     * Number of keys searched per invocation
+     */
+    private static final int BATCH_SIZE = 10_000;
+
+    /**
+     * Number of stored keys
+     */
+    @Param({"10000", "1000000"})
+    public int size;
+    /**
+     * Key distribution
+     */
+    @Param({"RANDOM", "SHARED_PREFIX"})
+    public KeyDistribution distribution;
+
+    /**
+     * Linear probing table
+     */
+    private HashExample linear;
+    /**
+     * Control-byte table
+     */
+    private SwissHashExample swiss;
+    /**
+     * Stored keys to search, copies of the stored strings
+     */
+    private String[] hits;
+    /**
+     * Keys that are not stored
+     */
+    private String[] misses;
+
+    /**
+     * Generates the keys and fills the tables up to the load factor
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        // the capacity is the next power of two, so the tables are filled up to 7/8 of it
+        int capacity = HashExample.tableSizeFor(size);
+        int stored = (int) (capacity * LOAD_FACTOR) - 1;
+        String[] keys = distribution.generate(stored + BATCH_SIZE, 42);
+        linear = new HashExample(capacity / 2, LOAD_FACTOR);
+        swiss = new SwissHashExample(stored, HashStrategy.HASH_CODE);
+        for (int i = 0; i < stored; i++) {
+            linear.add(keys[i]);
+            swiss.add(keys[i]);
+        }
+        hits = new String[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            // distinct instances, so equals compares the characters like for a key read from the input
+            hits[i] = new String(keys[i * (stored / BATCH_SIZE)].toCharArray());
+        }
+        misses = Arrays.copyOfRange(keys, stored, stored + BATCH_SIZE);
+    }
+
+    /**
+     * Searches for stored keys in the linear probing table
+     * @return sum of the indexes
+     */
+    @Benchmark
+    public long linearHit() {
+        long sum = 0;
+        for (String key : hits) {
+            sum += linear.search(key);
+        }
+        return sum;
+    }
+
+    /**
+     * Searches for missing keys in the linear probing table
+     * @return sum of the indexes
+     */
+    @Benchmark
+    public long linearMiss() {
+        long sum = 0;
+        for (String key : misses) {
+            sum += linear.search(key);
+        }
+        return sum;
+    }
+
+    /**
+     * Searches for stored keys in the control-byte table
+     * @return sum of the indexes
+     */
+    @Benchmark
+    public long swissHit() {
+        long sum = 0;
+        for (String key : hits) {
+            sum += swiss.search(key);
+        }
+        return sum;
+    }
+
+    /**
+     * Searches for missing keys in the control-byte table
+     * @return sum of the indexes
+     */
+    @Benchmark
+    public long swissMiss() {
+        long sum = 0;
+        for (String key : misses) {
+            sum += swiss.search(key);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Author: Svetlana Dukkardt
+ * Student number: 040851905
+ * Lab: 8
+ * Date: 18 October, 2026
+ * Purpose: Creates the hash tables that are compared by the benchmarks
+ */
+
+package lab8;
+
+/**
+ * Hash table configurations that are compared by the benchmarks
+ *
+ * @author Svetlana Dukkardt
+ */
+public enum TableStrategy {
+    /**
+     * Two-character hash, at most 100 elements
+     */
+    LEGACY {
+        @Override
+        public HashExample create(int expectedSize) {
+            return new HashExample();
+        }
+    },
+    /**
+     * Full-string hash, power-of-two capacity presized for the expected number of elements
+     */
+    RESIZABLE {
+        @Override
+        public HashExample create(int expectedSize) {
+            return new HashExample(expectedSize, HashExample.DEFAULT_LOAD_FACTOR);
+        }
+    },
+    /**
+     * Resizable table with {@link HashStrategy#MURMUR3} hash
+     */
+    RESIZABLE_MURMUR3 {
+        @Override
+        public HashExample create(int expectedSize) {
+            return new HashExample(expectedSize, HashExample.DEFAULT_LOAD_FACTOR, HashStrategy.MURMUR3);
+        }
+    },
+    /**
+     * Resizable table with {@link HashStrategy#XXHASH64} hash
+     */
+    RESIZABLE_XXHASH64 {
+        @Override
+        public HashExample create(int expectedSize) {
+            return new HashExample(expectedSize, HashExample.DEFAULT_LOAD_FACTOR, HashStrategy.XXHASH64);
+        }
+    };
+
+    /**
+     * Creates an empty table
+     * @param expectedSize - number of elements the table is going to store
+     * @return new table
+     */
+    public abstract HashExample create(int expectedSize);
+}
@@ -0,0 +1,141 @@
+/*
+ * Author: Svetlana Dukkardt
+ * Student number: 040851905
+ * Lab: 8
+ * Date: 18 October, 2026
+ * Purpose: Probabilistic set that answers whether a string is definitely not stored
+ */
+
+package lab8;
+
+/**
+ * Bloom filter of strings.
+ * {@link BloomFilter#mightContain(String)} never returns false for an added string,
+ * and returns true for a string that was not added with about the configured false positive rate.
+ * <p>
+ * The bit indexes are derived from a 64-bit mix of the cached {@link String#hashCode() string hash}
+ * with double hashing, so checking a string does not read its characters.
+ *
+ * @author Svetlana Dukkardt
+ */
+public class BloomFilter {
+    /**
+     * Bits of the filter, power-of-two number of bits
+     */
+    private final long[] bits;
+    /**
+     * Mask that selects a bit index
+     */
+    private final long mask;
+    /**
+     * Number of bits that are checked per string
+     */
+    private final int hashFunctions;
+    /**
+     * Configured false positive rate
+     */
+    private final double falsePositiveRate;
+    /**
+     * Number of bits that are set
+     */
+    private long setBits;
+
+    /**
+     * Constructor.
+     * @param expectedInsertions - number of strings the filter is sized for
+     * @param falsePositiveRate - false positive rate at the expected number of strings, between 0 and 1
+     */
+    public BloomFilter(int expectedInsertions, double falsePositiveRate) {
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("Illegal false positive rate: " + falsePositiveRate);
+        }
+        int expected = Math.max(expectedInsertions, 1);
+        double ln2 = Math.log(2);
+        long optimalBits = (long) Math.ceil(-expected * Math.log(falsePositiveRate) / (ln2 * ln2));
+        long size = Long.highestOneBit(Math.max(optimalBits, Long.SIZE) - 1) << 1;
+        this.bits = new long[(int) Math.min(size / Long.SIZE, 1 << 30)];
+        this.mask = (long) bits.length * Long.SIZE - 1;
+        this.hashFunctions = Math.max(1, (int) Math.round(optimalBits / (double) expected * ln2));
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    /**
+     * Adds the string to the filter
+     * @param value - value to add
+     */
+    public void add(String value) {
+        long hash = mix(value.hashCode());
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        for (int i = 0; i < hashFunctions; i++) {
+            long index = (h1 + (long) i * h2) & mask;
+            long bit = 1L << index;
+            int word = (int) (index >>> 6);
+            if ((bits[word] & bit) == 0) {
+                bits[word] |= bit;
+                setBits++;
+            }
+        }
+    }
+
+    /**
+     * Checks the string against the filter
+     * @param value - value to check
+     * @return false if the string was definitely not added
+     */
+    public boolean mightContain(String value) {
+        long hash = mix(value.hashCode());
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        for (int i = 0; i < hashFunctions; i++) {
+            long index = (h1 + (long) i * h2) & mask;
+            if ((bits[(int) (index >>> 6)] & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return configured false positive rate
+     */
+    public double getFalsePositiveRate() {
+        return falsePositiveRate;
+    }
+
+    /**
+     * @return false positive rate expected from the current share of set bits
+     */
+    public double getCurrentFalsePositiveRate() {
+        return Math.pow(setBits / (double) (mask + 1), hashFunctions);
+    }
+
+    /**
+     * @return number of bits that are checked per string
+     */
+    public int getHashFunctions() {
+        return hashFunctions;
+    }
+
+    /**
+     * @return size of the filter in bits
+     */
+    public long getBitSize() {
+        return mask + 1;
+    }
+
+    /**
+     * Spreads the 32-bit hash over 64 bits (finalizer of MurmurHash3)
+     * @param hash - hash to mix
+     * @return mixed hash
+     */
+    private static long mix(int hash) {
+        long h = hash;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
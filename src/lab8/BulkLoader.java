@@ -0,0 +1,214 @@
+/*
+ * Author: Svetlana Dukkardt
+ * Student number: 040851905
+ * Lab: 8
+ * Date: 18 October, 2026
+ * Purpose: Loads strings from a file into the hash table without user interaction
+ */
+
+package lab8;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Loads strings from a file into the {@link HashExample hash table}, one string per line.
+ * <p>
+ * The file is memory-mapped in regions of up to {@link BulkLoader#REGION_SIZE} bytes.
+ * The first pass counts the lines to presize the table, the second pass splits the mapped bytes
+ * on new lines and creates exactly one {@link String} per stored line.
+ * Empty lines are counted as rejected.
+ *
+ * @author Svetlana Dukkardt
+ */
+public class BulkLoader {
+    /**
+     * Maximum size of the mapped region
+     */
+    private static final int REGION_SIZE = 1 << 30;
+
+    /**
+     * Result of the load
+     */
+    public static class Result {
+        /**
+         * Number of lines that are added to the table
+         */
+        private final long loaded;
+        /**
+         * Number of lines that cannot be added to the table
+         */
+        private final long rejected;
+        /**
+         * Time spent on loading, in nanoseconds
+         */
+        private final long elapsedNanos;
+
+        /**
+         * Constructor.
+         * @param loaded - number of lines that are added to the table
+         * @param rejected - number of lines that cannot be added to the table
+         * @param elapsedNanos - time spent on loading, in nanoseconds
+         */
+        Result(long loaded, long rejected, long elapsedNanos) {
+            this.loaded = loaded;
+            this.rejected = rejected;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        /**
+         * @return number of lines that are added to the table
+         */
+        public long getLoaded() {
+            return loaded;
+        }
+
+        /**
+         * @return number of lines that cannot be added to the table
+         */
+        public long getRejected() {
+            return rejected;
+        }
+
+        /**
+         * @return time spent on loading, in nanoseconds
+         */
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        /**
+         * @return number of processed lines per second
+         */
+        public double getKeysPerSecond() {
+            return elapsedNanos == 0 ? 0 : (loaded + rejected) * 1e9 / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Loaded: %d, rejected: %d, time: %.3f s, %.0f keys/sec",
+                    loaded, rejected, elapsedNanos / 1e9, getKeysPerSecond());
+        }
+    }
+
+    /**
+     * Constructor.
+     */
+    private BulkLoader() {}
+
+    /**
+     * Loads all lines of the file into the table
+     * @param file - file to read, UTF-8, one string per line
+     * @param hashExample - table to add the strings to
+     * @return result of the load
+     * @throws IOException in case of the file cannot be read
+     */
+    public static Result load(Path file, HashExample hashExample) throws IOException {
+        long start = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long lines = countLines(channel);
+            hashExample.ensureCapacity((int) Math.min(Integer.MAX_VALUE, hashExample.size() + lines));
+
+            long loaded = 0;
+            long rejected = 0;
+            byte[] line = new byte[256];
+            long fileSize = channel.size();
+            long position = 0;
+            while (position < fileSize) {
+                long regionSize = Math.min(REGION_SIZE, fileSize - position);
+                MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, position, regionSize);
+                boolean lastRegion = position + regionSize == fileSize;
+                int lineStart = 0;
+                for (int i = 0; i < regionSize; i++) {
+                    if (region.get(i) == '\n') {
+                        line = copyLine(region, lineStart, i, line);
+                        if (addLine(hashExample, line, i - lineStart)) {
+                            loaded++;
+                        } else {
+                            rejected++;
+                        }
+                        lineStart = i + 1;
+                    }
+                }
+                if (lastRegion && lineStart < regionSize) {
+                    // the last line without line separator
+                    int end = (int) regionSize;
+                    line = copyLine(region, lineStart, end, line);
+                    if (addLine(hashExample, line, end - lineStart)) {
+                        loaded++;
+                    } else {
+                        rejected++;
+                    }
+                    lineStart = end;
+                }
+                if (lineStart == 0 && !lastRegion) {
+                    throw new IOException("Line is longer than " + REGION_SIZE + " bytes");
+                }
+                // the next region starts with the incomplete line of this one
+                position += lineStart;
+            }
+            return new Result(loaded, rejected, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Counts the lines of the file. The last line without line separator is counted as well.
+     * @param channel - opened file
+     * @return number of lines
+     * @throws IOException in case of the file cannot be read
+     */
+    private static long countLines(FileChannel channel) throws IOException {
+        long fileSize = channel.size();
+        long lines = 0;
+        byte last = '\n';
+        for (long position = 0; position < fileSize; position += REGION_SIZE) {
+            long regionSize = Math.min(REGION_SIZE, fileSize - position);
+            MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, position, regionSize);
+            for (int i = 0; i < regionSize; i++) {
+                if (region.get(i) == '\n') {
+                    lines++;
+                }
+            }
+            last = region.get((int) regionSize - 1);
+        }
+        return last == '\n' ? lines : lines + 1;
+    }
+
+    /**
+     * Copies the line bytes into the reusable buffer, growing it if required
+     * @param region - mapped region
+     * @param from - index of the first byte of the line
+     * @param to - index after the last byte of the line
+     * @param line - reusable buffer
+     * @return buffer that contains the line
+     */
+    private static byte[] copyLine(MappedByteBuffer region, int from, int to, byte[] line) {
+        int length = to - from;
+        if (length > line.length) {
+            line = new byte[Math.max(length, line.length << 1)];
+        }
+        region.get(from, line, 0, length);
+        return line;
+    }
+
+    /**
+     * Adds a line to the table. The trailing carriage return is ignored.
+     * @param hashExample - table to add the line to
+     * @param line - buffer that contains the line
+     * @param length - length of the line in bytes
+     * @return true if the line is added
+     */
+    private static boolean addLine(HashExample hashExample, byte[] line, int length) {
+        if (length > 0 && line[length - 1] == '\r') {
+            length--;
+        }
+        if (length == 0) {
+            return false;
+        }
+        return hashExample.add(new String(line, 0, length, StandardCharsets.UTF_8)) >= 0;
+    }
+}
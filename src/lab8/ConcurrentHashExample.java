@@ -0,0 +1,215 @@
+/*
+ * Author: Svetlana Dukkardt
+ * Student number: 040851905
+ * Lab: 8
+ * Date: 18 October, 2026
+ * Purpose: Provides thread-safe methods to store and search data base on hash algorithm
+ */
+
+package lab8;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Thread-safe variant of the resizable {@link HashExample} table.
+ * <p>
+ * Inserts take one of {@link ConcurrentHashExample#STRIPES} locks selected by the hash of the value,
+ * so equal values are always added by one thread at a time and cannot be stored twice.
+ * Values of different stripes claim empty slots with compare-and-set.
+ * Resize takes all stripe locks, copies the values into a new array and publishes it;
+ * the old array is never changed afterwards, so lookups do not take any lock.
+ *
+ * @author Svetlana Dukkardt
+ */
+public class ConcurrentHashExample {
+    /**
+     * Number of insert locks, power of two
+     */
+    private static final int STRIPES = 64;
+    /**
+     * Minimum capacity. Up to {@link ConcurrentHashExample#STRIPES} inserts may pass the threshold check
+     * at once, so the table always keeps room for them.
+     */
+    private static final int MINIMUM_CAPACITY = STRIPES * 4;
+    /**
+     * Maximum ratio of stored elements to the capacity
+     */
+    private static final float MAXIMUM_LOAD_FACTOR = 0.75f;
+
+    /**
+     * Array to store the data. Replaced as a whole on resize.
+     */
+    private volatile AtomicReferenceArray<String> dataItems;
+    /**
+     * Insert locks
+     */
+    private final ReentrantLock[] locks;
+    /**
+     * Maximum ratio of stored elements to the capacity before the table is resized
+     */
+    private final float loadFactor;
+    /**
+     * Number of stored elements
+     */
+    private final AtomicInteger size = new AtomicInteger();
+    /**
+     * Number of elements when the table has to be resized
+     */
+    private volatile int threshold;
+
+    /**
+     * Constructor. Creates the table with the default capacity and load factor.
+     */
+    public ConcurrentHashExample() {
+        this(HashExample.DEFAULT_CAPACITY, HashExample.DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Constructor.
+     * @param initialCapacity - expected number of elements
+     * @param loadFactor - maximum ratio of stored elements to the capacity, up to 0.75
+     */
+    public ConcurrentHashExample(int initialCapacity, float loadFactor) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal initial capacity: " + initialCapacity);
+        }
+        if (!(loadFactor > 0 && loadFactor <= MAXIMUM_LOAD_FACTOR)) {
+            throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+        }
+        this.loadFactor = loadFactor;
+        this.locks = new ReentrantLock[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        int capacity = HashExample.tableSizeFor((int) Math.min(HashExample.MAXIMUM_CAPACITY,
+                Math.max(MINIMUM_CAPACITY, Math.ceil(initialCapacity / (double) loadFactor))));
+        this.dataItems = new AtomicReferenceArray<>(capacity);
+        this.threshold = (int) (capacity * loadFactor);
+    }
+
+    /**
+     * Adds a string to the table. The string that is already stored is not added again.
+     * @param value - value to add
+     * @return index where the value is stored, or -1 if the value cannot be added
+     */
+    public int add(String value) {
+        int hash = (int) HashStrategy.HASH_CODE.hash(value);
+        ReentrantLock lock = locks[hash & (STRIPES - 1)];
+        while (true) {
+            AtomicReferenceArray<String> table;
+            lock.lock();
+            try {
+                // the table cannot be replaced while a stripe lock is held
+                table = dataItems;
+                if (size.get() < threshold) {
+                    return addToArray(table, hash, value);
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (!resize(table)) {
+                return -1;
+            }
+        }
+    }
+
+    /**
+     * Searches for a string in the table. Never blocks.
+     * @param value - value to search
+     * @return index of the value, or -1 if the value is not found
+     */
+    public int search(String value) {
+        AtomicReferenceArray<String> table = dataItems;
+        int mask = table.length() - 1;
+        String item;
+        for (int i = (int) HashStrategy.HASH_CODE.hash(value) & mask; (item = table.get(i)) != null; i = (i + 1) & mask) {
+            if (value.equals(item)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return number of stored elements
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * @return current capacity of the table
+     */
+    public int capacity() {
+        return dataItems.length();
+    }
+
+    /**
+     * Adds a value to the table. Must be called under the stripe lock of the value.
+     * @param table - current table
+     * @param hash - mixed hash of the value
+     * @param value - value to add
+     * @return index where the value is stored
+     */
+    private int addToArray(AtomicReferenceArray<String> table, int hash, String value) {
+        int mask = table.length() - 1;
+        int index = hash & mask;
+        while (true) {
+            String item = table.get(index);
+            if (item == null) {
+                if (table.compareAndSet(index, null, value)) {
+                    size.incrementAndGet();
+                    return index;
+                }
+                // the slot is claimed by the value of another stripe
+                item = table.get(index);
+            }
+            if (value.equals(item)) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    /**
+     * Doubles the table capacity unless another thread has already done it.
+     * @param expected - table that was found full
+     * @return false if the table cannot grow anymore
+     */
+    private boolean resize(AtomicReferenceArray<String> expected) {
+        for (ReentrantLock lock : locks) {
+            lock.lock();
+        }
+        try {
+            if (dataItems != expected) {
+                return true;
+            }
+            if (expected.length() >= HashExample.MAXIMUM_CAPACITY) {
+                return false;
+            }
+            int capacity = expected.length() << 1;
+            int mask = capacity - 1;
+            AtomicReferenceArray<String> tmp = new AtomicReferenceArray<>(capacity);
+            for (int i = 0; i < expected.length(); i++) {
+                String item = expected.get(i);
+                if (item != null) {
+                    int index = (int) HashStrategy.HASH_CODE.hash(item) & mask;
+                    while (tmp.get(index) != null) {
+                        index = (index + 1) & mask;
+                    }
+                    tmp.lazySet(index, item);
+                }
+            }
+            threshold = (int) (capacity * loadFactor);
+            // volatile write publishes the filled array to the readers
+            dataItems = tmp;
+            return true;
+        } finally {
+            for (int i = locks.length - 1; i >= 0; i--) {
+                locks[i].unlock();
+            }
+        }
+    }
+}
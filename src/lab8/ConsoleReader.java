@@ -0,0 +1,359 @@
+/*
+ * Author: Svetlana Dukkardt
+ * Student number: 040851905
+ * Lab: 8
+ * Date: 18 October, 2026
+ * Purpose: Reads user input line by line with a large byte buffer
+ */
+
+package lab8;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads user input line by line into a large byte buffer.
+ * Unlike {@link java.util.Scanner scanner} it parses numbers directly from the buffered bytes
+ * and reports invalid numbers with the return value instead of exceptions.
+ * <p>
+ * Usage: call {@link ConsoleReader#readLine()}, then one of {@link ConsoleReader#getLine()},
+ * {@link ConsoleReader#parseInt()} or {@link ConsoleReader#parseFloat()} for the read line.
+ *
+ * @author Svetlana Dukkardt
+ */
+public class ConsoleReader {
+    /**
+     * Initial size of the buffer
+     */
+    private static final int BUFFER_SIZE = 1 << 16;
+    /**
+     * Largest integer mantissa that is exactly representable as float
+     */
+    private static final long MAX_EXACT_FLOAT_MANTISSA = 1L << 24;
+    /**
+     * Powers of ten that are exactly representable as float
+     */
+    private static final float[] FLOAT_POWERS_OF_TEN = {
+            1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+    };
+
+    /**
+     * Stream to read from
+     */
+    private final InputStream in;
+    /**
+     * Read bytes
+     */
+    private byte[] buffer = new byte[BUFFER_SIZE];
+    /**
+     * Index of the first byte that is not consumed yet
+     */
+    private int position;
+    /**
+     * Index after the last read byte
+     */
+    private int limit;
+    /**
+     * Indicates that the stream is over
+     */
+    private boolean endOfStream;
+    /**
+     * Index of the first byte of the current line
+     */
+    private int lineStart;
+    /**
+     * Index after the last byte of the current line, without line separator
+     */
+    private int lineEnd;
+    /**
+     * Result of the last successful {@link ConsoleReader#parseInt()}
+     */
+    private int intValue;
+    /**
+     * Result of the last successful {@link ConsoleReader#parseFloat()}
+     */
+    private float floatValue;
+
+    /**
+     * Constructor.
+     * @param in - stream to read from
+     */
+    public ConsoleReader(InputStream in) {
+        this.in = in;
+    }
+
+    /**
+     * Reads the next line. Blocks until the whole line or the end of the stream is read.
+     * @return false if the stream is over and there are no more lines
+     * @throws UncheckedIOException in case of the stream cannot be read
+     */
+    public boolean readLine() {
+        int scanFrom = position;
+        while (true) {
+            for (int i = scanFrom; i < limit; i++) {
+                if (buffer[i] == '\n') {
+                    setLine(position, i);
+                    position = i + 1;
+                    return true;
+                }
+            }
+            if (endOfStream) {
+                if (position == limit) {
+                    return false;
+                }
+                // the last line without line separator
+                setLine(position, limit);
+                position = limit;
+                return true;
+            }
+            scanFrom = limit - position;
+            fill();
+        }
+    }
+
+    /**
+     * @return current line
+     */
+    public String getLine() {
+        return new String(buffer, lineStart, lineEnd - lineStart, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Parses the current line as a decimal integer, with the same syntax as {@link Integer#parseInt(String)}.
+     * Lines with non-ASCII characters are passed to {@link Integer#parseInt(String)}.
+     * @return false if the line is not a valid integer
+     */
+    public boolean parseInt() {
+        int i = lineStart;
+        if (i == lineEnd) {
+            return false;
+        }
+        boolean negative = buffer[i] == '-';
+        if (negative || buffer[i] == '+') {
+            i++;
+            if (i == lineEnd) {
+                return false;
+            }
+        }
+        // accumulate negatively to handle Integer.MIN_VALUE
+        int limitValue = negative ? Integer.MIN_VALUE : -Integer.MAX_VALUE;
+        int result = 0;
+        for (; i < lineEnd; i++) {
+            if (buffer[i] < 0) {
+                // non-ASCII digits of other scripts
+                return parseIntSlow();
+            }
+            int digit = buffer[i] - '0';
+            if (digit < 0 || digit > 9 || result < limitValue / 10) {
+                return false;
+            }
+            result *= 10;
+            if (result < limitValue + digit) {
+                return false;
+            }
+            result -= digit;
+        }
+        intValue = negative ? result : -result;
+        return true;
+    }
+
+    /**
+     * Parses the current line as a floating point number, with the same syntax as {@link Float#parseFloat(String)}.
+     * Decimal numbers whose digits and exponent fit a float exactly are parsed from the bytes,
+     * other input, like long mantissas or hexadecimal numbers, is passed to {@link Float#parseFloat(String)}.
+     * @return false if the line is not a valid number
+     */
+    public boolean parseFloat() {
+        int start = lineStart;
+        int end = lineEnd;
+        while (start < end && buffer[start] <= ' ') {
+            start++;
+        }
+        while (end > start && buffer[end - 1] <= ' ') {
+            end--;
+        }
+        int i = start;
+        boolean negative = false;
+        if (i < end && (buffer[i] == '-' || buffer[i] == '+')) {
+            negative = buffer[i] == '-';
+            i++;
+        }
+        if (matches(i, end, "NaN")) {
+            floatValue = Float.NaN;
+            return true;
+        }
+        if (matches(i, end, "Infinity")) {
+            floatValue = negative ? Float.NEGATIVE_INFINITY : Float.POSITIVE_INFINITY;
+            return true;
+        }
+        if (end > i && isTypeSuffix(buffer[end - 1])) {
+            end--;
+        }
+        long mantissa = 0;
+        int exponent = 0;
+        int digits = 0;
+        boolean exact = true;
+        boolean fraction = false;
+        for (; i < end; i++) {
+            byte b = buffer[i];
+            if (b == '.' && !fraction) {
+                fraction = true;
+            } else if (b >= '0' && b <= '9') {
+                digits++;
+                if (mantissa < MAX_EXACT_FLOAT_MANTISSA) {
+                    mantissa = mantissa * 10 + (b - '0');
+                    if (fraction) {
+                        exponent--;
+                    }
+                } else {
+                    exact = false;
+                }
+            } else {
+                break;
+            }
+        }
+        if (digits == 0) {
+            return parseFloatSlow();
+        }
+        if (i < end && (buffer[i] == 'e' || buffer[i] == 'E')) {
+            i++;
+            boolean negativeExponent = false;
+            if (i < end && (buffer[i] == '-' || buffer[i] == '+')) {
+                negativeExponent = buffer[i] == '-';
+                i++;
+            }
+            if (i == end) {
+                return parseFloatSlow();
+            }
+            int value = 0;
+            for (; i < end; i++) {
+                int digit = buffer[i] - '0';
+                if (digit < 0 || digit > 9) {
+                    return parseFloatSlow();
+                }
+                value = Math.min(value * 10 + digit, 100_000);
+            }
+            exponent += negativeExponent ? -value : value;
+        }
+        if (i != end) {
+            return parseFloatSlow();
+        }
+        exact &= mantissa <= MAX_EXACT_FLOAT_MANTISSA && Math.abs(exponent) < FLOAT_POWERS_OF_TEN.length;
+        if (!exact) {
+            return parseFloatSlow();
+        }
+        // both operands are exact, so one float operation gives the correctly rounded value
+        float result = exponent >= 0 ? mantissa * FLOAT_POWERS_OF_TEN[exponent] : mantissa / FLOAT_POWERS_OF_TEN[-exponent];
+        floatValue = negative ? -result : result;
+        return true;
+    }
+
+    /**
+     * Parses the current line with {@link Integer#parseInt(String)}
+     * @return false if the line is not a valid integer
+     */
+    private boolean parseIntSlow() {
+        try {
+            intValue = Integer.parseInt(getLine());
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Parses the current line with {@link Float#parseFloat(String)}
+     * @return false if the line is not a valid number
+     */
+    private boolean parseFloatSlow() {
+        try {
+            floatValue = Float.parseFloat(getLine());
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @return result of the last successful {@link ConsoleReader#parseInt()}
+     */
+    public int getIntValue() {
+        return intValue;
+    }
+
+    /**
+     * @return result of the last successful {@link ConsoleReader#parseFloat()}
+     */
+    public float getFloatValue() {
+        return floatValue;
+    }
+
+    /**
+     * Sets the bounds of the current line, the trailing carriage return is excluded
+     * @param start - index of the first byte of the line
+     * @param end - index of the line separator
+     */
+    private void setLine(int start, int end) {
+        if (end > start && buffer[end - 1] == '\r') {
+            end--;
+        }
+        lineStart = start;
+        lineEnd = end;
+    }
+
+    /**
+     * Moves not consumed bytes to the start of the buffer, grows the buffer if it is full
+     * and reads more bytes from the stream.
+     */
+    private void fill() {
+        int remaining = limit - position;
+        if (remaining == buffer.length) {
+            byte[] tmp = new byte[buffer.length << 1];
+            System.arraycopy(buffer, position, tmp, 0, remaining);
+            buffer = tmp;
+        } else if (position > 0) {
+            System.arraycopy(buffer, position, buffer, 0, remaining);
+        }
+        position = 0;
+        limit = remaining;
+        try {
+            int read = in.read(buffer, limit, buffer.length - limit);
+            if (read < 0) {
+                endOfStream = true;
+            } else {
+                limit += read;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Checks that the bytes of the current line are equal to the ASCII literal
+     * @param from - index of the first byte to compare
+     * @param to - index after the last byte to compare
+     * @param literal - literal to compare with
+     * @return true if the bytes are equal to the literal
+     */
+    private boolean matches(int from, int to, String literal) {
+        if (to - from != literal.length()) {
+            return false;
+        }
+        for (int i = 0; i < literal.length(); i++) {
+            if (buffer[from + i] != literal.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param b - byte to check
+     * @return true if the byte is a type suffix accepted by {@link Float#parseFloat(String)}
+     */
+    private static boolean isTypeSuffix(byte b) {
+        return b == 'f' || b == 'F' || b == 'd' || b == 'D';
+    }
+}
@@ -0,0 +1,342 @@
+/*
+ * Author: Svetlana Dukkardt
+ * Student number: 040851905
+ * Lab: 8
+ * Date: 18 October, 2026
+ * Purpose: Provides the hash table that is read without locks while it is resized
+ */
+
+package lab8;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Thread-safe resizable table for read-mostly workloads. The slots are published by a volatile reference,
+ * a lookup loads it once and probes that array, so it never blocks and never sees an array
+ * in the middle of a resize or rehash, however long it takes.
+ * <p>
+ * The writers are serialized by a lock. An add that fits into the published array stores the string
+ * into a free slot with a release write, which the lookups read with acquire, so it costs the same
+ * as in a single-threaded table. A slot of the published array only changes from empty to a string,
+ * so no probe run is broken under a lookup. Only the changes that would break that are copied:
+ * a resize rehashes the strings into a grown array and a remove rehashes the remaining strings
+ * instead of leaving a tombstone, both cost O(capacity) and publish the new array with one volatile write.
+ * {@link CopyOnWriteHashExample#addAll(String...)} grows the array once for the whole batch.
+ *
+ * @author Svetlana Dukkardt
+ */
+public class CopyOnWriteHashExample {
+    /**
+     * Reads and writes the slots of the published array with acquire and release
+     */
+    private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(String[].class);
+
+    /**
+     * Published slots, a slot only changes from null to a string until the array is replaced
+     */
+    private volatile String[] dataItems;
+    /**
+     * Number of stored elements, changed by the writers only
+     */
+    private volatile int size;
+    /**
+     * Serializes the writers
+     */
+    private final Object writeLock = new Object();
+    /**
+     * Maximum ratio of stored elements to the capacity
+     */
+    private final float loadFactor;
+
+    /**
+     * Constructor. Creates the table with the default capacity and load factor.
+     */
+    public CopyOnWriteHashExample() {
+        this(HashExample.DEFAULT_CAPACITY, HashExample.DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Constructor.
+     * @param initialCapacity - expected number of elements
+     * @param loadFactor - maximum ratio of stored elements to the capacity, between 0 and 1
+     */
+    public CopyOnWriteHashExample(int initialCapacity, float loadFactor) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal initial capacity: " + initialCapacity);
+        }
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+        }
+        this.loadFactor = loadFactor;
+        this.dataItems = new String[capacityFor(initialCapacity)];
+    }
+
+    /**
+     * Searches for a string in the table. Never blocks.
+     * @param value - value to search
+     * @return index of the value in the current slots, or -1 if the value is not found
+     */
+    public int search(String value) {
+        return find(dataItems, value);
+    }
+
+    /**
+     * Searches for every key of the batch in parallel on the {@link ForkJoinPool#commonPool() common pool}.
+     * @param keys - values to search
+     * @return index of every value, or -1 for the values that are not found
+     * @see CopyOnWriteHashExample#searchAll(String[], ForkJoinPool)
+     */
+    public int[] searchAll(String[] keys) {
+        return searchAll(keys, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Searches for every key of the batch in parallel. All ranges are searched in the slots
+     * that are published when the call starts, so the writers are not stopped. Every string stored
+     * before the call is found unless it is removed meanwhile, a string added meanwhile may or may not be found.
+     * Never blocks on the writers.
+     * @param keys - values to search
+     * @param pool - pool that runs the lookups
+     * @return index of every value in the slots published when the call started, or -1 for the values that are not found
+     */
+    public int[] searchAll(String[] keys, ForkJoinPool pool) {
+        int[] indexes = new int[keys.length];
+        pool.invoke(new BatchSearch(dataItems, keys, indexes, 0, keys.length));
+        return indexes;
+    }
+
+    /**
+     * Adds a string to the table. The string that is already stored is not added again.
+     * The string is stored in place unless the table has to grow.
+     * @param value - value to add
+     * @return index of the value in the published slots, or -1 if the value cannot be added
+     */
+    public int add(String value) {
+        synchronized (writeLock) {
+            String[] current = dataItems;
+            int index = find(current, value);
+            if (index >= 0) {
+                return index;
+            }
+            if (size >= HashExample.MAXIMUM_CAPACITY - 1) {
+                return -1;
+            }
+            String[] items = slotsFor(current, size + 1);
+            index = insert(items, value);
+            if (items != current) {
+                dataItems = items;
+            }
+            size++;
+            return index;
+        }
+    }
+
+    /**
+     * Adds the strings to the table, grows it at most once for all of them.
+     * The lookups may find some of the strings before the call returns.
+     * @param values - values to add
+     * @return number of added values, the values that are already stored are not counted
+     */
+    public int addAll(String... values) {
+        synchronized (writeLock) {
+            String[] current = dataItems;
+            long maxSize = Math.min((long) size + values.length, HashExample.MAXIMUM_CAPACITY - 1);
+            String[] items = slotsFor(current, (int) maxSize);
+            int added = 0;
+            for (String value : values) {
+                if (size + added >= maxSize) {
+                    break;
+                }
+                if (find(items, value) < 0) {
+                    insert(items, value);
+                    added++;
+                }
+            }
+            if (items != current && added > 0) {
+                dataItems = items;
+            }
+            size += added;
+            return added;
+        }
+    }
+
+    /**
+     * Removes a string from the table. The remaining strings are rehashed into a new array,
+     * so a remove costs O(capacity).
+     * @param value - value to remove
+     * @return true if the value was stored
+     */
+    public boolean remove(String value) {
+        synchronized (writeLock) {
+            String[] current = dataItems;
+            int index = find(current, value);
+            if (index < 0) {
+                return false;
+            }
+            String[] items = new String[current.length];
+            for (int i = 0; i < current.length; i++) {
+                String item = current[i];
+                if (item != null && i != index) {
+                    insert(items, item);
+                }
+            }
+            dataItems = items;
+            size--;
+            return true;
+        }
+    }
+
+    /**
+     * @return number of stored elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return current capacity of the table
+     */
+    public int capacity() {
+        return dataItems.length;
+    }
+
+    /**
+     * @return published slots
+     */
+    String[] getDataItems() {
+        return dataItems;
+    }
+
+    /**
+     * Finds the slots the given number of elements is stored in: the published slots if they have room,
+     * otherwise the current strings rehashed into a grown array that is not published yet
+     * @param current - published slots
+     * @param size - number of elements the slots have to hold
+     * @return slots to store the elements in
+     */
+    private String[] slotsFor(String[] current, int size) {
+        int capacity = Math.max(current.length, capacityFor(size));
+        if (capacity == current.length) {
+            return current;
+        }
+        String[] items = new String[capacity];
+        for (String item : current) {
+            if (item != null) {
+                insert(items, item);
+            }
+        }
+        return items;
+    }
+
+    /**
+     * Calculates the capacity that holds the number of elements within the load factor
+     * @param size - number of elements
+     * @return power-of-two capacity
+     */
+    private int capacityFor(int size) {
+        int capacity = HashExample.tableSizeFor((int) Math.min(HashExample.MAXIMUM_CAPACITY,
+                Math.ceil(size / (double) loadFactor)));
+        // keep at least one empty slot, so the probing of a miss always stops
+        return size < capacity ? capacity : Math.min(HashExample.MAXIMUM_CAPACITY, capacity << 1);
+    }
+
+    /**
+     * Finds the slot of the value
+     * @param dataItems - slots to search in
+     * @param value - value to search
+     * @return index of the value, or -1 if the value is not found
+     */
+    private static int find(String[] dataItems, String value) {
+        int mask = dataItems.length - 1;
+        String item;
+        // the acquire read pairs with the release write of the writer that stored the string in place
+        for (int i = (int) HashStrategy.HASH_CODE.hash(value) & mask;
+                (item = (String) SLOT.getAcquire(dataItems, i)) != null; i = (i + 1) & mask) {
+            if (value.equals(item)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Stores the value that is not in the slots yet into the first free slot of its probe sequence.
+     * The release write makes the string visible to the lookups that read the slot with acquire.
+     * @param dataItems - slots of the table, published or not
+     * @param value - value to store
+     * @return index of the value
+     */
+    private static int insert(String[] dataItems, String value) {
+        int mask = dataItems.length - 1;
+        int index = (int) HashStrategy.HASH_CODE.hash(value) & mask;
+        while (dataItems[index] != null) {
+            index = (index + 1) & mask;
+        }
+        SLOT.setRelease(dataItems, index, value);
+        return index;
+    }
+
+    /**
+     * Fork-join task that searches for a range of the batch keys in the published slots.
+     * Ranges larger than {@link HashExample#BATCH_SPLIT_THRESHOLD} are split in halves.
+     */
+    private static class BatchSearch extends RecursiveAction {
+        /**
+         * Version of the serialized form inherited from {@link RecursiveAction}
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Slots of the table published when the batch started
+         */
+        private final String[] items;
+        /**
+         * Values to search
+         */
+        private final String[] keys;
+        /**
+         * Indexes of the values
+         */
+        private final int[] indexes;
+        /**
+         * First key of the range
+         */
+        private final int from;
+        /**
+         * Key after the last one of the range
+         */
+        private final int to;
+
+        /**
+         * Constructor.
+         * @param items - slots of the published table
+         * @param keys - values to search
+         * @param indexes - indexes of the values
+         * @param from - first key of the range
+         * @param to - key after the last one of the range
+         */
+        BatchSearch(String[] items, String[] keys, int[] indexes, int from, int to) {
+            this.items = items;
+            this.keys = keys;
+            this.indexes = indexes;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > HashExample.BATCH_SPLIT_THRESHOLD) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new BatchSearch(items, keys, indexes, from, middle),
+                        new BatchSearch(items, keys, indexes, middle, to));
+                return;
+            }
+            for (int i = from; i < to; i++) {
+                indexes[i] = find(items, keys[i]);
+            }
+        }
+    }
+}
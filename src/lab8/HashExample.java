@@ -0,0 +1,1019 @@
+/*
+ * Author: Svetlana Dukkardt
+ * Student number: 040851905
+ * Lab: 8
+ * Date: 4 April, 2020
+ * Purpose: Provides methods to store and search data base on hash algorithm
+ */
+
+package lab8;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Provides methods to store and search data base on hash algorithm.
+ * The class works in one of three modes:
+ * <ul>
+ *     <li>legacy mode - two-character hash, the table is limited by {@link HashExample#MAX_SIZE} elements</li>
+ *     <li>resizable mode - full-string hash, power-of-two capacity that is doubled when the load factor is exceeded</li>
+ *     <li>bounded mode - resizable layout of a fixed capacity that evicts an element with the CLOCK algorithm
+ *     instead of growing, so the table works as a fixed-memory cache</li>
+ * </ul>
+ * The hash function is selected with {@link HashStrategy} when the table is constructed.
+ * <p>
+ * Removed strings are replaced with {@link HashExample#TOMBSTONE tombstones}, so the probing
+ * does not stop at a removed slot. When tombstones take more than {@link HashExample#TOMBSTONE_RATIO}
+ * of the used slots, every following add and remove also clears up to {@link HashExample#COMPACTION_STEP}
+ * slots: the elements that follow a tombstone in the probe run are shifted back into it until the run
+ * ends, so the slot becomes empty without rehashing the table.
+ * @author Svetlana Dukkardt
+ */
+public class HashExample {
+    /**
+     * Default initial capacity of the resizable table
+     */
+    public static final int DEFAULT_CAPACITY = 16;
+    /**
+     * Default load factor of the resizable table
+     */
+    public static final float DEFAULT_LOAD_FACTOR = 0.5f;
+    /**
+     * Maximum number of elements to store
+     */
+    private static final int MAX_SIZE = 100;
+    /**
+     * Maximum capacity of the resizable table
+     */
+    static final int MAXIMUM_CAPACITY = 1 << 30;
+    /**
+     * Marker of a removed slot, compared by identity
+     */
+    static final String TOMBSTONE = new String("");
+    /**
+     * Share of tombstones among the used slots that starts the compaction
+     */
+    private static final float TOMBSTONE_RATIO = 0.25f;
+    /**
+     * Number of slots the compaction checks per add or remove
+     */
+    private static final int COMPACTION_STEP = 64;
+    /**
+     * Number of keys below which a batch lookup task is not split any more
+     */
+    static final int BATCH_SPLIT_THRESHOLD = 1024;
+
+    /**
+     * Array to store the data
+     */
+    private String[] dataItems;
+    /**
+     * Indicates that the table uses full-string hash and grows without limit
+     */
+    private final boolean resizable;
+    /**
+     * Hash function of the table
+     */
+    private final HashStrategy hashStrategy;
+    /**
+     * Maximum ratio of stored elements to the capacity before the resizable table is rehashed
+     */
+    private final float loadFactor;
+    /**
+     * Number of stored elements
+     */
+    private int size;
+    /**
+     * Number of slots that hold a {@link HashExample#TOMBSTONE tombstone}
+     */
+    private int tombstones;
+    /**
+     * Next slot the compaction checks
+     */
+    private int compactionCursor;
+    /**
+     * Number of slots the running compaction still has to check, 0 if the compaction is not running
+     */
+    private int compactionRemaining;
+    /**
+     * Number of used slots when the resizable table has to be rehashed
+     */
+    private int threshold;
+    /**
+     * Maximum number of stored elements of the bounded table, 0 if the table is not bounded
+     */
+    private final int maxSize;
+    /**
+     * Reference bits of the slots of the bounded table, set by the lookup hits, null if the table is not bounded
+     */
+    private long[] referenced;
+    /**
+     * Next slot the CLOCK eviction checks
+     */
+    private int clockHand;
+    /**
+     * Usage statistics
+     */
+    private final HashStats stats = new HashStats();
+    /**
+     * Filter that answers definite misses without probing the table, null if disabled
+     */
+    private BloomFilter bloomFilter;
+    /**
+     * Journal of the added and removed strings, null if disabled
+     */
+    private HashJournal journal;
+    /**
+     * Sequence number of the snapshot the table was last saved to or loaded from, 0 if none
+     */
+    private long snapshotSequence;
+    /**
+     * Ordered index of the strings for the prefix queries, null if disabled
+     */
+    private PrefixIndex prefixIndex;
+
+    /**
+     * Constructor. Creates the table in legacy mode.
+     */
+    public HashExample() {
+        this(HashStrategy.TWO_CHAR);
+    }
+
+    /**
+     * Constructor. Creates the table in legacy mode with the given hash function taken modulo 100.
+     * @param hashStrategy - hash function of the table
+     */
+    public HashExample(HashStrategy hashStrategy) {
+        this.dataItems = new String[]{};
+        this.resizable = false;
+        this.hashStrategy = hashStrategy;
+        this.loadFactor = 1f;
+        this.threshold = MAX_SIZE;
+        this.maxSize = 0;
+    }
+
+    /**
+     * Constructor. Creates the table in resizable mode.
+     * @param initialCapacity - expected number of elements, rounded up to the power of two
+     * @param loadFactor - maximum ratio of stored elements to the capacity, between 0 and 1
+     */
+    public HashExample(int initialCapacity, float loadFactor) {
+        this(initialCapacity, loadFactor, HashStrategy.HASH_CODE);
+    }
+
+    /**
+     * Constructor. Creates the table in resizable mode.
+     * @param initialCapacity - expected number of elements, rounded up to the power of two
+     * @param loadFactor - maximum ratio of stored elements to the capacity, between 0 and 1
+     * @param hashStrategy - hash function of the table
+     */
+    public HashExample(int initialCapacity, float loadFactor, HashStrategy hashStrategy) {
+        this(initialCapacity, loadFactor, hashStrategy, 0);
+    }
+
+    /**
+     * Constructor. Creates the table in resizable or bounded mode.
+     * @param initialCapacity - expected number of elements, rounded up to the power of two
+     * @param loadFactor - maximum ratio of stored elements to the capacity, between 0 and 1
+     * @param hashStrategy - hash function of the table
+     * @param maxSize - maximum number of stored elements, 0 if the table is not bounded
+     */
+    private HashExample(int initialCapacity, float loadFactor, HashStrategy hashStrategy, int maxSize) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal initial capacity: " + initialCapacity);
+        }
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+        }
+        this.resizable = true;
+        this.hashStrategy = hashStrategy;
+        this.loadFactor = loadFactor;
+        int capacity = tableSizeFor((int) Math.min(MAXIMUM_CAPACITY, Math.ceil(initialCapacity / (double) loadFactor)));
+        this.dataItems = new String[capacity];
+        this.threshold = (int) (capacity * loadFactor);
+        this.maxSize = maxSize;
+        if (maxSize > 0) {
+            this.referenced = new long[(capacity + Long.SIZE - 1) / Long.SIZE];
+        }
+    }
+
+    /**
+     * Constructor. Restores the table with the given slot layout, no element is rehashed.
+     * @param dataItems - slots of the table, power-of-two length in resizable mode
+     * @param resizable - true if the table works in resizable mode
+     * @param hashStrategy - hash function the slots are calculated with
+     * @param loadFactor - load factor of the resizable table
+     * @param size - number of stored elements
+     * @param tombstones - number of slots that hold {@link HashExample#TOMBSTONE}
+     * @param maxSize - maximum number of stored elements of the bounded table, 0 if the table is not bounded
+     */
+    HashExample(String[] dataItems, boolean resizable, HashStrategy hashStrategy, float loadFactor, int size,
+                int tombstones, int maxSize) {
+        this.dataItems = dataItems;
+        this.resizable = resizable;
+        this.hashStrategy = hashStrategy;
+        this.loadFactor = loadFactor;
+        this.size = size;
+        this.tombstones = tombstones;
+        this.threshold = resizable ? (int) (dataItems.length * loadFactor) : MAX_SIZE;
+        this.maxSize = maxSize;
+        if (maxSize > 0) {
+            this.referenced = new long[(dataItems.length + Long.SIZE - 1) / Long.SIZE];
+        }
+    }
+
+    /**
+     * Creates the table in resizable mode with the default capacity and load factor.
+     * @return new resizable table
+     */
+    public static HashExample resizable() {
+        return new HashExample(DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Creates the table in bounded mode with the default load factor and hash.
+     * @param maxSize - maximum number of stored elements
+     * @return new bounded table
+     */
+    public static HashExample bounded(int maxSize) {
+        return bounded(maxSize, DEFAULT_LOAD_FACTOR, HashStrategy.HASH_CODE);
+    }
+
+    /**
+     * Creates the table in bounded mode. The capacity is fixed for the maximum number of elements,
+     * adding a new element to the full table evicts one that was not found by a lookup since the CLOCK hand passed it.
+     * @param maxSize - maximum number of stored elements
+     * @param loadFactor - maximum ratio of stored elements to the capacity, between 0 and 1
+     * @param hashStrategy - hash function of the table
+     * @return new bounded table
+     */
+    public static HashExample bounded(int maxSize, float loadFactor, HashStrategy hashStrategy) {
+        if (maxSize <= 0 || Math.ceil(maxSize / (double) loadFactor) >= MAXIMUM_CAPACITY) {
+            throw new IllegalArgumentException("Illegal maximum size: " + maxSize);
+        }
+        return new HashExample(maxSize, loadFactor, hashStrategy, maxSize);
+    }
+
+    /**
+     * Adds a string to the table.
+     * In resizable mode the string that is already stored is not added again.
+     * @param value - value to add
+     * @return index where the value is stored, or -1 if the value cannot be added
+     */
+    public int add(String value) {
+        // compact before the index is calculated, the compaction moves elements
+        compactStep();
+        // get the index where to insert the new String
+        int index = getIndex(value);
+        if (!resizable && MAX_SIZE <= index) {
+            stats.recordInsert(false);
+            return -1;
+        }
+        index = addToArray(index, value);
+        stats.recordInsert(index >= 0);
+        return index;
+    }
+
+    /**
+     * Searches for a string in the table.
+     * @param value - value to search
+     * @return index of the value, or -1 if the value is not found
+     */
+    public int search(String value) {
+        if (bloomFilter != null && !bloomFilter.mightContain(value)) {
+            stats.recordBloomFilterMiss();
+            return -1;
+        }
+        // get the start index where entered String can be found
+        int index = getIndex(value);
+        int probes = 0;
+        if (resizable) {
+            int mask = dataItems.length - 1;
+            for (int i = index; dataItems[i] != null; i = (i + 1) & mask) {
+                probes++;
+                if (dataItems[i] != TOMBSTONE && value.equals(dataItems[i])) {
+                    stats.recordLookup(probes, true);
+                    if (referenced != null) {
+                        setReferenced(i, true);
+                    }
+                    return i;
+                }
+            }
+        } else if (MAX_SIZE > index) {
+            // if the index less than 100 then we need to try to find the string
+            for (int i = index; i < dataItems.length && dataItems[i]!=null; i++) {
+                probes++;
+                if (dataItems[i] != TOMBSTONE && value.equals(dataItems[i])) {
+                    stats.recordLookup(probes, true);
+                    return i;
+                }
+            }
+        }
+        stats.recordLookup(probes, false);
+        if (bloomFilter != null) {
+            stats.recordBloomFilterFalsePositive();
+        }
+        return -1;
+    }
+
+    /**
+     * Searches for every key of the batch in parallel on the {@link ForkJoinPool#commonPool() common pool}.
+     * @param keys - values to search
+     * @return index of every value, or -1 for the values that are not found
+     * @see HashExample#searchAll(String[], ForkJoinPool)
+     */
+    public int[] searchAll(String[] keys) {
+        return searchAll(keys, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Searches for every key of the collection in parallel on the {@link ForkJoinPool#commonPool() common pool}.
+     * @param keys - values to search
+     * @return index of every value in the iteration order of the collection, or -1 for the values that are not found
+     */
+    public int[] searchAll(Collection<String> keys) {
+        return searchAll(keys.toArray(new String[0]), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Searches for every key of the batch in parallel. The keys are split into ranges that are searched
+     * by the pool against the slots and the Bloom filter of the table. The table has a single writer,
+     * the call blocks until all ranges are searched, so the table must not be modified meanwhile
+     * and the slots are not copied. {@link CopyOnWriteHashExample#searchAll(String[], ForkJoinPool)}
+     * searches while other threads write.
+     * The lookups are not recorded in the statistics and do not set the reference bits of the bounded table.
+     * @param keys - values to search
+     * @param pool - pool that runs the lookups
+     * @return index of every value, or -1 for the values that are not found
+     */
+    public int[] searchAll(String[] keys, ForkJoinPool pool) {
+        int[] indexes = new int[keys.length];
+        pool.invoke(new BatchSearch(this, dataItems, bloomFilter, keys, indexes, 0, keys.length));
+        return indexes;
+    }
+
+    /**
+     * Removes a string from the table. The slot is replaced with a tombstone, so the strings
+     * that follow it in the probe run are still found. The Bloom filter keeps the removed string
+     * until the filter is rebuilt with the next rehash.
+     * @param value - value to remove
+     * @return true if the value was stored
+     */
+    public boolean remove(String value) {
+        compactStep();
+        int index = getIndex(value);
+        int removed = -1;
+        if (resizable) {
+            int mask = dataItems.length - 1;
+            for (int i = index; dataItems[i] != null; i = (i + 1) & mask) {
+                if (dataItems[i] != TOMBSTONE && value.equals(dataItems[i])) {
+                    removed = i;
+                    break;
+                }
+            }
+        } else if (MAX_SIZE > index) {
+            for (int i = index; i < dataItems.length && dataItems[i]!=null; i++) {
+                if (dataItems[i] != TOMBSTONE && value.equals(dataItems[i])) {
+                    removed = i;
+                    break;
+                }
+            }
+        }
+        if (removed < 0) {
+            stats.recordRemove(false);
+            return false;
+        }
+        if (journal != null) {
+            journal.appendRemove(value);
+        }
+        stats.recordRemove(true);
+        dataItems[removed] = TOMBSTONE;
+        size--;
+        tombstones++;
+        // the legacy table may keep another copy of the string
+        if (prefixIndex != null && (resizable || find(dataItems, value) < 0)) {
+            prefixIndex.remove(value);
+        }
+        return true;
+    }
+
+    /**
+     * Enables the Bloom filter in front of the lookups, so most of the misses do not touch the table.
+     * The filter is sized for the current capacity of the table and rebuilt when the table grows.
+     * @param falsePositiveRate - share of the misses that still probe the table, between 0 and 1,
+     *                          or 0 to disable the filter
+     */
+    public void setBloomFilter(double falsePositiveRate) {
+        if (falsePositiveRate == 0) {
+            bloomFilter = null;
+            return;
+        }
+        bloomFilter = new BloomFilter(Math.max(threshold, size), falsePositiveRate);
+        for (String item : dataItems) {
+            if (item != null && item != TOMBSTONE) {
+                bloomFilter.add(item);
+            }
+        }
+    }
+
+    /**
+     * Enables or disables the ordered index that answers the prefix queries
+     * without scanning the table. The index is built from the stored strings.
+     * @param enabled - true to maintain the index
+     */
+    public void setPrefixIndex(boolean enabled) {
+        if (!enabled) {
+            prefixIndex = null;
+            return;
+        }
+        prefixIndex = new PrefixIndex();
+        for (String item : dataItems) {
+            if (item != null && item != TOMBSTONE) {
+                prefixIndex.add(item);
+            }
+        }
+    }
+
+    /**
+     * @return ordered index of the strings, null if disabled
+     */
+    public PrefixIndex getPrefixIndex() {
+        return prefixIndex;
+    }
+
+    /**
+     * Finds the stored strings that start with the prefix, in order.
+     * Uses the {@link PrefixIndex prefix index} if it is enabled, otherwise scans the table.
+     * @param prefix - prefix to search, an empty prefix matches all strings
+     * @return read-only ordered strings that start with the prefix
+     */
+    public SortedSet<String> searchPrefix(String prefix) {
+        if (prefixIndex != null) {
+            return prefixIndex.withPrefix(prefix);
+        }
+        return Collections.unmodifiableSortedSet(scanPrefix(prefix));
+    }
+
+    /**
+     * Finds the stored strings that start with the prefix by scanning all slots
+     * @param prefix - prefix to search
+     * @return ordered strings that start with the prefix
+     */
+    SortedSet<String> scanPrefix(String prefix) {
+        SortedSet<String> results = new TreeSet<>();
+        for (String item : dataItems) {
+            if (item != null && item != TOMBSTONE && item.startsWith(prefix)) {
+                results.add(item);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Attaches the journal, every following add and remove of a string is appended to it.
+     * Evictions of the bounded table are appended as removes: the CLOCK victim depends on the lookup hits,
+     * which are not journaled, so replaying the adds alone would evict other strings.
+     * A change is appended before the slots are changed, so the table is left unchanged if the append fails.
+     * @param journal - journal to append to, null to detach
+     */
+    void setJournal(HashJournal journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * @return sequence number of the snapshot the table was last saved to or loaded from, 0 if none
+     */
+    long getSnapshotSequence() {
+        return snapshotSequence;
+    }
+
+    /**
+     * @param snapshotSequence - sequence number of the snapshot the table is saved to or loaded from
+     */
+    void setSnapshotSequence(long snapshotSequence) {
+        this.snapshotSequence = snapshotSequence;
+    }
+
+    /**
+     * Counts the slots that {@link HashExample#search(String)} compares with the value.
+     * @param value - value to search
+     * @return number of compared slots
+     */
+    int probeLength(String value) {
+        int index = getIndex(value);
+        int probes = 0;
+        if (resizable) {
+            int mask = dataItems.length - 1;
+            for (int i = index; dataItems[i] != null; i = (i + 1) & mask) {
+                probes++;
+                if (dataItems[i] != TOMBSTONE && value.equals(dataItems[i])) {
+                    break;
+                }
+            }
+        } else if (MAX_SIZE > index) {
+            for (int i = index; i < dataItems.length && dataItems[i]!=null; i++) {
+                probes++;
+                if (dataItems[i] != TOMBSTONE && value.equals(dataItems[i])) {
+                    break;
+                }
+            }
+        }
+        return probes;
+    }
+
+    /**
+     * @return usage statistics of the table
+     */
+    public HashStats getStats() {
+        stats.setOccupancy(size, tombstones, capacity());
+        stats.setBloomFilter(bloomFilter);
+        return stats;
+    }
+
+    /**
+     * @return number of stored elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return number of slots that hold a tombstone of a removed element
+     */
+    public int tombstones() {
+        return tombstones;
+    }
+
+    /**
+     * @return current capacity of the table
+     */
+    public int capacity() {
+        return resizable ? dataItems.length : MAX_SIZE;
+    }
+
+    /**
+     * Grows the resizable table in advance so the expected number of elements
+     * can be added without rehashing. Does nothing in legacy and bounded modes.
+     * @param expectedSize - expected total number of elements
+     */
+    public void ensureCapacity(int expectedSize) {
+        if (resizable && maxSize == 0 && expectedSize > threshold) {
+            int capacity = tableSizeFor((int) Math.min(MAXIMUM_CAPACITY, Math.ceil(expectedSize / (double) loadFactor)));
+            if (capacity > dataItems.length) {
+                rehash(capacity);
+            }
+        }
+    }
+
+    /**
+     * @return load factor of the resizable table
+     */
+    float getLoadFactorLimit() {
+        return loadFactor;
+    }
+
+    /**
+     * @return slots of the table, not a copy
+     */
+    String[] getDataItems() {
+        return dataItems;
+    }
+
+    /**
+     * @return hash function of the table
+     */
+    public HashStrategy getHashStrategy() {
+        return hashStrategy;
+    }
+
+    /**
+     * @return true if the table works in bounded mode
+     */
+    public boolean isBounded() {
+        return maxSize > 0;
+    }
+
+    /**
+     * @return maximum number of stored elements of the bounded table, 0 if the table is not bounded
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * @return true if the table works in resizable mode
+     */
+    public boolean isResizable() {
+        return resizable;
+    }
+
+    /**
+     * Adds a value to the array if there is a room.
+     * @param index - where to add
+     * @param value - value to add
+     * @return index where the value is stored, or -1 if there is no room
+     */
+    private int addToArray(int index, String value) {
+        if (resizable) {
+            return addToTable(index, value);
+        }
+        expandIfRequired(index);
+        // there is a value in this index. need to find next available index
+        while (index < dataItems.length && dataItems[index]!=null && dataItems[index]!=TOMBSTONE) {
+            index ++;
+        }
+        // check if we are with in max size
+        if (MAX_SIZE <= index) {
+            return -1;
+        }
+        expandIfRequired(index);
+
+        if (journal != null) {
+            journal.appendAdd(value);
+        }
+        if (dataItems[index] == TOMBSTONE) {
+            tombstones--;
+        }
+        dataItems[index] = value;
+        size++;
+        stored(value);
+        return index;
+    }
+
+    /**
+     * Adds a value to the resizable table. Probing wraps around the end of the table.
+     * @param index - where to start probing
+     * @param value - value to add
+     * @return index where the value is stored
+     */
+    private int addToTable(int index, String value) {
+        int mask = dataItems.length - 1;
+        int tombstoneIndex = -1;
+        while (dataItems[index] != null) {
+            if (dataItems[index] == TOMBSTONE) {
+                if (tombstoneIndex < 0) {
+                    tombstoneIndex = index;
+                }
+            } else if (value.equals(dataItems[index])) {
+                if (referenced != null) {
+                    setReferenced(index, true);
+                }
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        if (maxSize > 0 && size >= maxSize) {
+            // the eviction may shift the elements, so the slot is searched again
+            evict();
+            return addToTable(getIndex(value), value);
+        }
+        if (tombstoneIndex >= 0) {
+            index = tombstoneIndex;
+        } else if (size + tombstones >= threshold) {
+            if (tombstones > 0 && (tombstones >= size || maxSize > 0 || dataItems.length >= MAXIMUM_CAPACITY)) {
+                // mostly tombstones, rehashing at the same capacity drops them
+                rehash(dataItems.length);
+            } else if (dataItems.length >= MAXIMUM_CAPACITY) {
+                // keep at least one empty slot so probing always terminates
+                return -1;
+            } else {
+                rehash(dataItems.length << 1);
+            }
+            return addToTable(getIndex(value), value);
+        }
+        if (journal != null) {
+            journal.appendAdd(value);
+        }
+        if (index == tombstoneIndex) {
+            // reusing the tombstone does not change the number of used slots
+            tombstones--;
+        }
+        dataItems[index] = value;
+        if (referenced != null) {
+            setReferenced(index, false);
+        }
+        size++;
+        stored(value);
+        return index;
+    }
+
+    /**
+     * Updates the Bloom filter and the prefix index with the stored string
+     * @param value - stored string
+     */
+    private void stored(String value) {
+        if (bloomFilter != null) {
+            bloomFilter.add(value);
+        }
+        if (prefixIndex != null) {
+            prefixIndex.add(value);
+        }
+    }
+
+    /**
+     * Moves all elements of the resizable table into a new array of the given capacity.
+     * @param capacity - new capacity, power of two
+     */
+    private void rehash(int capacity) {
+        long start = System.nanoTime();
+        String[] old = dataItems;
+        String[] tmp = new String[capacity];
+        int mask = capacity - 1;
+        threshold = capacity >= MAXIMUM_CAPACITY ? MAXIMUM_CAPACITY - 1 : (int) (capacity * loadFactor);
+        // the filter is sized for the threshold, so it is rebuilt for the new one
+        BloomFilter filter = bloomFilter == null ? null : new BloomFilter(threshold, bloomFilter.getFalsePositiveRate());
+        long[] oldReferenced = referenced;
+        if (oldReferenced != null) {
+            referenced = new long[(capacity + Long.SIZE - 1) / Long.SIZE];
+        }
+        for (int j = 0; j < old.length; j++) {
+            String item = old[j];
+            if (item != null && item != TOMBSTONE) {
+                int i = (int) hashStrategy.hash(item) & mask;
+                while (tmp[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                tmp[i] = item;
+                if (oldReferenced != null && (oldReferenced[j >>> 6] & (1L << j)) != 0) {
+                    referenced[i >>> 6] |= 1L << i;
+                }
+                if (filter != null) {
+                    filter.add(item);
+                }
+            }
+        }
+        dataItems = tmp;
+        bloomFilter = filter;
+        tombstones = 0;
+        compactionRemaining = 0;
+        stats.recordResize(System.nanoTime() - start, size);
+    }
+
+    /**
+     * Runs the next step of the compaction. The compaction starts when tombstones exceed
+     * {@link HashExample#TOMBSTONE_RATIO} of the used slots and stops after one pass over the table
+     * or when no tombstone is left.
+     */
+    private void compactStep() {
+        if (compactionRemaining == 0) {
+            if (tombstones == 0 || tombstones <= (size + tombstones) * TOMBSTONE_RATIO) {
+                return;
+            }
+            compactionRemaining = dataItems.length;
+        }
+        for (int i = 0; i < COMPACTION_STEP && compactionRemaining > 0 && tombstones > 0; i++) {
+            if (compactionCursor >= dataItems.length) {
+                compactionCursor = 0;
+            }
+            if (dataItems[compactionCursor] == TOMBSTONE) {
+                clearTombstone(compactionCursor);
+                stats.recordCompaction();
+            }
+            compactionCursor++;
+            compactionRemaining--;
+        }
+        if (tombstones == 0) {
+            compactionRemaining = 0;
+        }
+    }
+
+    /**
+     * Turns the tombstone into an empty slot. Every element that follows it in the probe run
+     * and may be stored closer to its home slot is shifted back into the hole, so no probe run is broken.
+     * @param hole - index of the tombstone
+     */
+    private void clearTombstone(int hole) {
+        if (resizable) {
+            int mask = dataItems.length - 1;
+            for (int j = (hole + 1) & mask; dataItems[j] != null; j = (j + 1) & mask) {
+                String item = dataItems[j];
+                // the element can move if the hole is on its probe path from the home slot
+                if (item != TOMBSTONE && ((j - getIndex(item)) & mask) >= ((j - hole) & mask)) {
+                    dataItems[hole] = item;
+                    if (referenced != null) {
+                        setReferenced(hole, isReferenced(j));
+                    }
+                    hole = j;
+                }
+            }
+        } else {
+            for (int j = hole + 1; j < dataItems.length && dataItems[j] != null; j++) {
+                String item = dataItems[j];
+                if (item != TOMBSTONE && getIndex(item) <= hole) {
+                    dataItems[hole] = item;
+                    hole = j;
+                }
+            }
+        }
+        dataItems[hole] = null;
+        tombstones--;
+    }
+
+    /**
+     * Evicts an element of the bounded table with the CLOCK algorithm: the hand passes the slots,
+     * clears the reference bits that are set and evicts the first element whose bit is not set.
+     * The slot is cleared at once, so the evictions do not leave tombstones. The evicted element
+     * is journaled as removed before its slot is cleared.
+     */
+    private void evict() {
+        int mask = dataItems.length - 1;
+        while (true) {
+            int i = clockHand;
+            clockHand = (clockHand + 1) & mask;
+            String item = dataItems[i];
+            if (item == null || item == TOMBSTONE) {
+                continue;
+            }
+            if (isReferenced(i)) {
+                setReferenced(i, false);
+                continue;
+            }
+            if (journal != null) {
+                journal.appendRemove(item);
+            }
+            dataItems[i] = TOMBSTONE;
+            size--;
+            tombstones++;
+            clearTombstone(i);
+            if (prefixIndex != null) {
+                prefixIndex.remove(item);
+            }
+            stats.recordEviction();
+            return;
+        }
+    }
+
+    /**
+     * @param index - index of the slot
+     * @return reference bit of the slot
+     */
+    private boolean isReferenced(int index) {
+        return (referenced[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Sets the reference bit of the slot
+     * @param index - index of the slot
+     * @param value - new value of the bit
+     */
+    private void setReferenced(int index, boolean value) {
+        if (value) {
+            referenced[index >>> 6] |= 1L << index;
+        } else {
+            referenced[index >>> 6] &= ~(1L << index);
+        }
+    }
+
+    /**
+     * Expand the array capacity if it is required.
+     * The capacity is at least doubled so the total number of copied elements stays linear
+     * to the number of inserts.
+     * @param index - where we need to add
+     */
+    private void expandIfRequired(int index) {
+        if (index >= dataItems.length) {
+            // index is out of boundary of the array. need to extend it.
+            int capacity = Math.max(index + 1, Math.min(MAX_SIZE, dataItems.length << 1));
+            long start = System.nanoTime();
+            String[] tmp = new String[capacity];
+            System.arraycopy(dataItems,0, tmp,0, dataItems.length);
+            stats.recordResize(System.nanoTime() - start, dataItems.length);
+            dataItems = tmp;
+        }
+    }
+
+    /**
+     * Retrieves the index where to insert the value
+     * @param value value to insert
+     * @return - index where to insert
+     */
+    private int getIndex(String value) {
+        return getIndex(value, dataItems.length);
+    }
+
+    /**
+     * Retrieves the index where to insert the value into the slots of the given length
+     * @param value value to insert
+     * @param length - number of slots of the resizable table
+     * @return - index where to insert
+     */
+    private int getIndex(String value, int length) {
+        if (resizable) {
+            return (int) hashStrategy.hash(value) & (length - 1);
+        }
+        return (int) Math.floorMod(hashStrategy.hash(value), (long) MAX_SIZE);
+    }
+
+    /**
+     * Searches for the value in the slots without recording the lookup
+     * @param items - slots of the table
+     * @param value - value to search
+     * @return index of the value, or -1 if the value is not found
+     */
+    private int find(String[] items, String value) {
+        int index = getIndex(value, items.length);
+        if (resizable) {
+            int mask = items.length - 1;
+            for (int i = index; items[i] != null; i = (i + 1) & mask) {
+                if (items[i] != TOMBSTONE && value.equals(items[i])) {
+                    return i;
+                }
+            }
+        } else if (MAX_SIZE > index) {
+            for (int i = index; i < items.length && items[i] != null; i++) {
+                if (items[i] != TOMBSTONE && value.equals(items[i])) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Fork-join task that searches for a range of the batch keys.
+     * Ranges larger than {@link HashExample#BATCH_SPLIT_THRESHOLD} are split in halves.
+     */
+    private static class BatchSearch extends RecursiveAction {
+        /**
+         * Version of the serialized form inherited from {@link RecursiveAction}
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Table to search in
+         */
+        private final HashExample table;
+        /**
+         * Slots of the table captured when the batch started
+         */
+        private final String[] items;
+        /**
+         * Bloom filter captured when the batch started, null if disabled
+         */
+        private final BloomFilter filter;
+        /**
+         * Values to search
+         */
+        private final String[] keys;
+        /**
+         * Indexes of the values
+         */
+        private final int[] indexes;
+        /**
+         * First key of the range
+         */
+        private final int from;
+        /**
+         * Key after the last one of the range
+         */
+        private final int to;
+
+        /**
+         * Constructor.
+         * @param table - table to search in
+         * @param items - slots of the table
+         * @param filter - Bloom filter of the table, null if disabled
+         * @param keys - values to search
+         * @param indexes - indexes of the values
+         * @param from - first key of the range
+         * @param to - key after the last one of the range
+         */
+        BatchSearch(HashExample table, String[] items, BloomFilter filter, String[] keys, int[] indexes, int from, int to) {
+            this.table = table;
+            this.items = items;
+            this.filter = filter;
+            this.keys = keys;
+            this.indexes = indexes;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > BATCH_SPLIT_THRESHOLD) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new BatchSearch(table, items, filter, keys, indexes, from, middle),
+                        new BatchSearch(table, items, filter, keys, indexes, middle, to));
+                return;
+            }
+            for (int i = from; i < to; i++) {
+                String key = keys[i];
+                indexes[i] = filter != null && !filter.mightContain(key) ? -1 : table.find(items, key);
+            }
+        }
+    }
+
+    /**
+     * Rounds the capacity up to the power of two
+     * @param capacity - requested capacity
+     * @return power of two that is not less than the requested capacity
+     */
+    static int tableSizeFor(int capacity) {
+        int n = -1 >>> Integer.numberOfLeadingZeros(Math.max(capacity, 2) - 1);
+        return Math.min(n + 1, MAXIMUM_CAPACITY);
+    }
+}
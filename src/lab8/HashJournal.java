@@ -0,0 +1,464 @@
+/*
+ * Author: Svetlana Dukkardt
+ * Student number: 040851905
+ * Lab: 8
+ * Date: 18 October, 2026
+ * Purpose: Keeps the changes of the hash table in an append-only file
+ */
+
+package lab8;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only journal of the strings that are added to and removed from the {@link HashExample hash table}.
+ * The strings evicted by the bounded table are journaled as removed, so replaying into a table
+ * of the same maximum size restores the same strings regardless of the lookups that chose the victims.
+ * <p>
+ * The records are collected in memory and written by a background thread, which forces the file
+ * once per group of records: the first record of a group waits at most the configured delay,
+ * so a record is durable within that delay after it is appended and one {@link FileChannel#force(boolean) force}
+ * covers all the records appended meanwhile. {@link HashJournal#sync()} makes the appended records durable at once.
+ * <p>
+ * File layout, big-endian:
+ * <pre>
+ * header: int magic, int version, long sequence number of the snapshot the records follow
+ * record: byte operation, int length in bytes, UTF-8 bytes, int CRC32 of the operation, length and bytes
+ * </pre>
+ * Replaying stops at the first incomplete or corrupted record, which is what a crash in the middle
+ * of a write leaves behind, and the file is truncated there before new records are appended.
+ * <p>
+ * The records are replayed only into a table with the {@link HashSnapshot snapshot} sequence number
+ * of the header. A table loaded from a later snapshot already holds the records: the snapshot was saved,
+ * but the process stopped before {@link HashJournal#reset()}. Replaying them again would add
+ * the strings twice in legacy mode, so they are dropped instead.
+ *
+ * @author Svetlana Dukkardt
+ */
+public class HashJournal implements Closeable {
+    /**
+     * File signature
+     */
+    private static final int MAGIC = 0x4C384A4C;
+    /**
+     * Version of the file layout
+     */
+    private static final int VERSION = 2;
+    /**
+     * Size of the header in bytes
+     */
+    private static final int HEADER_SIZE = 4 + 4 + 8;
+    /**
+     * Operation of an added string
+     */
+    private static final byte ADD = 1;
+    /**
+     * Operation of a removed string
+     */
+    private static final byte REMOVE = 2;
+    /**
+     * Number of buffered bytes that are written without waiting for the delay
+     */
+    private static final int GROUP_SIZE = 1 << 20;
+
+    /**
+     * Channel of the journal file
+     */
+    private final FileChannel channel;
+    /**
+     * Table whose changes are journaled
+     */
+    private final HashExample hashExample;
+    /**
+     * Maximum time the first record of a group waits for the force, in nanoseconds
+     */
+    private final long maxDelayNanos;
+    /**
+     * Guards the buffers, the counters and the state
+     */
+    private final Object lock = new Object();
+    /**
+     * Records that are appended and not written yet
+     */
+    private ByteBuffer pending = ByteBuffer.allocate(GROUP_SIZE * 2);
+    /**
+     * Buffer that is being written by the flusher
+     */
+    private ByteBuffer writing = ByteBuffer.allocate(GROUP_SIZE * 2);
+    /**
+     * Checksum of the records
+     */
+    private final CRC32 crc = new CRC32();
+    /**
+     * Number of appended records
+     */
+    private long appended;
+    /**
+     * Number of records that are forced to the disk
+     */
+    private long durable;
+    /**
+     * Time when the first record of the pending group was appended
+     */
+    private long groupStart;
+    /**
+     * Number of forces of the file
+     */
+    private long forces;
+    /**
+     * True if the records have to be written without waiting for the delay
+     */
+    private boolean flushRequested;
+    /**
+     * Set when the journal is closed
+     */
+    private boolean closed;
+    /**
+     * Failure of the flusher, null if none
+     */
+    private IOException failure;
+    /**
+     * Thread that writes and forces the groups
+     */
+    private final Thread flusher;
+
+    /**
+     * Constructor.
+     * @param channel - channel of the journal file, positioned at the end of the valid records
+     * @param hashExample - table whose changes are journaled
+     * @param maxDelayMillis - maximum time a record waits for the force, in milliseconds
+     */
+    private HashJournal(FileChannel channel, HashExample hashExample, long maxDelayMillis) {
+        this.channel = channel;
+        this.hashExample = hashExample;
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMillis);
+        this.flusher = new Thread(this::flushLoop, "hash-journal-flusher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    /**
+     * Opens the journal: replays its records into the table and attaches the journal to the table,
+     * so the following changes are appended. A missing file is created. The records are dropped
+     * if the table is loaded from a later snapshot than the one the journal follows.
+     * @param file - journal file
+     * @param hashExample - table to replay the records into
+     * @param maxDelayMillis - maximum time a record waits for the force, in milliseconds
+     * @return opened journal
+     * @throws IOException in case of the file cannot be read or written, is not a journal,
+     *                     or follows a later snapshot than the table is loaded from
+     */
+    public static HashJournal open(Path file, HashExample hashExample, long maxDelayMillis) throws IOException {
+        if (maxDelayMillis < 0) {
+            throw new IllegalArgumentException("Illegal delay: " + maxDelayMillis);
+        }
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            long validSize = HEADER_SIZE;
+            long sequence = channel.size() == 0 ? -1 : readSequence(channel);
+            if (sequence > hashExample.getSnapshotSequence()) {
+                throw new IOException("Journal follows a later snapshot than the table");
+            }
+            if (sequence < hashExample.getSnapshotSequence()) {
+                // a new journal, or the records are in the snapshot already
+                channel.truncate(0);
+                writeHeader(channel, hashExample.getSnapshotSequence());
+            } else {
+                validSize = replay(channel, hashExample);
+                // drop the torn record of a crash
+                channel.truncate(validSize);
+            }
+            channel.position(validSize);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        HashJournal journal = new HashJournal(channel, hashExample, maxDelayMillis);
+        hashExample.setJournal(journal);
+        return journal;
+    }
+
+    /**
+     * Appends the added string
+     * @param value - added string
+     */
+    void appendAdd(String value) {
+        append(ADD, value);
+    }
+
+    /**
+     * Appends the removed string
+     * @param value - removed string
+     */
+    void appendRemove(String value) {
+        append(REMOVE, value);
+    }
+
+    /**
+     * Makes all appended records durable
+     * @throws IOException in case of the records cannot be written
+     */
+    public void sync() throws IOException {
+        synchronized (lock) {
+            long target = appended;
+            if (durable < target) {
+                flushRequested = true;
+                lock.notifyAll();
+            }
+            while (durable < target && failure == null) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while waiting for the journal", e);
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+
+    /**
+     * Removes all records, used after the table is saved into a {@link HashSnapshot snapshot}.
+     * The header takes the sequence number of the snapshot, so the following records are replayed on top of it.
+     * The table must not be changed until the method returns.
+     * @throws IOException in case of the file cannot be truncated
+     */
+    public void reset() throws IOException {
+        sync();
+        synchronized (lock) {
+            // the records go first, a crash between the two steps leaves an empty journal of the previous snapshot
+            channel.truncate(HEADER_SIZE);
+            channel.force(false);
+            writeHeader(channel, hashExample.getSnapshotSequence());
+            channel.position(HEADER_SIZE);
+        }
+    }
+
+    /**
+     * @return number of forces of the file
+     */
+    public long getForces() {
+        synchronized (lock) {
+            return forces;
+        }
+    }
+
+    /**
+     * @return number of appended records
+     */
+    public long getAppended() {
+        synchronized (lock) {
+            return appended;
+        }
+    }
+
+    /**
+     * Makes all appended records durable and closes the file
+     * @throws IOException in case of the records cannot be written
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            lock.notifyAll();
+        }
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        channel.close();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Encodes the record into the pending buffer and wakes up the flusher if needed
+     * @param operation - operation of the record
+     * @param value - string of the record
+     */
+    private void append(byte operation, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        synchronized (lock) {
+            if (failure != null) {
+                throw new UncheckedIOException(failure);
+            }
+            if (closed) {
+                throw new IllegalStateException("Journal is closed");
+            }
+            int recordSize = 1 + 4 + bytes.length + 4;
+            if (pending.remaining() < recordSize) {
+                ByteBuffer tmp = ByteBuffer.allocate(Math.max(pending.capacity() << 1, pending.position() + recordSize));
+                pending.flip();
+                pending = tmp.put(pending);
+            }
+            int start = pending.position();
+            pending.put(operation).putInt(bytes.length).put(bytes);
+            crc.reset();
+            crc.update(pending.array(), start, pending.position() - start);
+            pending.putInt((int) crc.getValue());
+            if (start == 0) {
+                groupStart = System.nanoTime();
+                lock.notifyAll();
+            } else if (pending.position() >= GROUP_SIZE) {
+                flushRequested = true;
+                lock.notifyAll();
+            }
+            appended++;
+        }
+    }
+
+    /**
+     * Loop of the flusher: waits for a group, writes it outside of the lock and forces the file
+     */
+    private void flushLoop() {
+        while (true) {
+            ByteBuffer group;
+            long groupEnd;
+            synchronized (lock) {
+                try {
+                    while (pending.position() == 0 && !closed) {
+                        lock.wait();
+                    }
+                    // the first record of the group waits at most the delay
+                    long wait;
+                    while (!closed && !flushRequested
+                            && (wait = groupStart + maxDelayNanos - System.nanoTime()) > 0) {
+                        TimeUnit.NANOSECONDS.timedWait(lock, wait);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                if (pending.position() == 0) {
+                    // closed, nothing is left
+                    return;
+                }
+                group = pending;
+                pending = writing;
+                writing = group;
+                groupEnd = appended;
+                flushRequested = false;
+            }
+            try {
+                group.flip();
+                while (group.hasRemaining()) {
+                    channel.write(group);
+                }
+                channel.force(false);
+                group.clear();
+                synchronized (lock) {
+                    durable = groupEnd;
+                    forces++;
+                    lock.notifyAll();
+                }
+            } catch (IOException e) {
+                synchronized (lock) {
+                    failure = e;
+                    lock.notifyAll();
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Writes the header at the start of the file and forces it
+     * @param channel - channel of the journal file
+     * @param sequence - sequence number of the snapshot the records follow
+     * @throws IOException in case of the file cannot be written
+     */
+    private static void writeHeader(FileChannel channel, long sequence) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(VERSION).putLong(sequence).flip();
+        while (header.hasRemaining()) {
+            channel.write(header, header.position());
+        }
+        channel.force(false);
+    }
+
+    /**
+     * Reads the header of the file
+     * @param channel - channel of the journal file
+     * @return sequence number of the snapshot the records follow
+     * @throws IOException in case of the file cannot be read or is not a journal
+     */
+    private static long readSequence(FileChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        while (header.hasRemaining() && channel.read(header, header.position()) >= 0) {
+            // read the whole header
+        }
+        if (header.hasRemaining() || header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+            throw new IOException("Unsupported journal format");
+        }
+        return header.getLong(8);
+    }
+
+    /**
+     * Replays the records into the table
+     * @param channel - channel of the journal file
+     * @param hashExample - table to replay into
+     * @return size of the header and the valid records
+     * @throws IOException in case of the file cannot be read
+     */
+    private static long replay(FileChannel channel, HashExample hashExample) throws IOException {
+        channel.position(HEADER_SIZE);
+        DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel), 1 << 16));
+        long validSize = HEADER_SIZE;
+        CRC32 crc = new CRC32();
+        byte[] bytes = new byte[256];
+        try {
+            while (true) {
+                byte operation = in.readByte();
+                int length = in.readInt();
+                if ((operation != ADD && operation != REMOVE) || length < 0 || length > channel.size() - validSize) {
+                    break;
+                }
+                if (length > bytes.length) {
+                    bytes = new byte[Math.max(length, bytes.length << 1)];
+                }
+                in.readFully(bytes, 0, length);
+                int checksum = in.readInt();
+                crc.reset();
+                crc.update(operation);
+                crc.update(length >>> 24);
+                crc.update(length >>> 16);
+                crc.update(length >>> 8);
+                crc.update(length);
+                crc.update(bytes, 0, length);
+                if ((int) crc.getValue() != checksum) {
+                    break;
+                }
+                String value = new String(bytes, 0, length, StandardCharsets.UTF_8);
+                if (operation == ADD) {
+                    hashExample.add(value);
+                } else {
+                    hashExample.remove(value);
+                }
+                validSize += 1 + 4 + length + 4;
+            }
+        } catch (EOFException e) {
+            // incomplete record at the end
+        }
+        return validSize;
+    }
+}
@@ -0,0 +1,502 @@
+/*
+ * Author: Svetlana Dukkardt
+ * Student number: 040851905
+ * Lab: 8
+ * Date: 18 October, 2026
+ * Purpose: Serves the hash table to other processes over TCP
+ */
+
+package lab8;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Serves the {@link HashExample hash table} over TCP with a single-threaded {@link Selector} event loop,
+ * so the table is only touched by one thread.
+ * <p>
+ * Protocol: UTF-8 lines terminated by '\n', an optional '\r' before it is ignored.
+ * <pre>
+ * ADD key     - responds with the index of the key, or -1 if it cannot be added
+ * SEARCH key  - responds with the index of the key, or -1 if it is not found
+ * REMOVE key  - responds with 1 if the key was removed, 0 if it is not found
+ * </pre>
+ * Everything after the first space is the key. An unknown command is answered with "ERR unknown command",
+ * a line longer than {@link HashServer#MAX_LINE} bytes closes the connection.
+ * <p>
+ * A client may send many requests without waiting for the responses. All complete lines of a read
+ * are answered in order into the output buffer of the connection, which is written once per loop pass.
+ * Reading from the connection pauses while more than {@link HashServer#MAX_PENDING_OUTPUT} bytes
+ * of responses are not written yet.
+ *
+ * @author Svetlana Dukkardt
+ */
+public class HashServer implements Closeable {
+    /**
+     * Maximum length of a request line in bytes
+     */
+    static final int MAX_LINE = 1024 * 1024;
+    /**
+     * Number of unwritten response bytes that pauses reading from the connection
+     */
+    private static final int MAX_PENDING_OUTPUT = 256 * 1024;
+    /**
+     * Size of the read buffer of a connection
+     */
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+    /**
+     * Response to an unknown command
+     */
+    private static final byte[] UNKNOWN_COMMAND = "ERR unknown command\n".getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * Table to serve
+     */
+    private final HashExample hashExample;
+    /**
+     * Selector of the event loop
+     */
+    private final Selector selector;
+    /**
+     * Listening channel
+     */
+    private final ServerSocketChannel serverChannel;
+    /**
+     * Connections that have responses to write after the current loop pass
+     */
+    private final List<Connection> pendingWrites = new ArrayList<>();
+    /**
+     * Set when the server has to stop
+     */
+    private volatile boolean closed;
+    /**
+     * Thread that runs the event loop, null if the loop is not running, guarded by the server
+     */
+    private Thread loopThread;
+    /**
+     * True when the selector and the channels are closed, guarded by the server
+     */
+    private boolean released;
+    /**
+     * Number of served requests
+     */
+    private long requests;
+
+    /**
+     * Constructor. Binds the listening socket, the requests are served by {@link HashServer#run()}.
+     * @param hashExample - table to serve
+     * @param address - address to listen on, port 0 selects a free port
+     * @throws IOException in case of the socket cannot be bound
+     */
+    public HashServer(HashExample hashExample, InetSocketAddress address) throws IOException {
+        this.hashExample = hashExample;
+        this.selector = Selector.open();
+        this.serverChannel = ServerSocketChannel.open();
+        try {
+            serverChannel.bind(address);
+            serverChannel.configureBlocking(false);
+            serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        } catch (IOException e) {
+            serverChannel.close();
+            selector.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return port the server listens on
+     */
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    /**
+     * @return number of served requests
+     */
+    public long getRequests() {
+        return requests;
+    }
+
+    /**
+     * Runs the event loop in the calling thread until {@link HashServer#stop()} is called.
+     * The selector and all channels are closed when the loop exits.
+     * @throws IOException in case of the selector fails
+     */
+    public void run() throws IOException {
+        synchronized (this) {
+            if (loopThread != null) {
+                throw new IllegalStateException("The server is already running");
+            }
+            if (closed) {
+                return;
+            }
+            loopThread = Thread.currentThread();
+        }
+        try {
+            while (!closed) {
+                selector.select();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    try {
+                        if (key.isAcceptable()) {
+                            accept();
+                            continue;
+                        }
+                        Connection connection = (Connection) key.attachment();
+                        if (key.isReadable()) {
+                            connection.read();
+                        }
+                        if (key.isValid() && key.isWritable()) {
+                            connection.write();
+                        }
+                    } catch (IOException e) {
+                        // the client is gone or broke the protocol, the other connections are served further
+                        closeConnection(key);
+                    }
+                }
+                // one write per connection for all the responses of this pass
+                for (Connection connection : pendingWrites) {
+                    try {
+                        connection.write();
+                    } catch (IOException e) {
+                        closeConnection(connection.key);
+                    }
+                }
+                pendingWrites.clear();
+            }
+        } finally {
+            synchronized (this) {
+                loopThread = null;
+                notifyAll();
+                release();
+            }
+        }
+    }
+
+    /**
+     * Stops the event loop. Can be called from any thread.
+     */
+    public void stop() {
+        closed = true;
+        selector.wakeup();
+    }
+
+    /**
+     * Stops the event loop and releases the port. If the loop runs in another thread,
+     * waits until it exits. Called from the loop thread, the loop releases the port when it exits.
+     * @throws IOException in case of the channels cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        stop();
+        synchronized (this) {
+            if (loopThread == Thread.currentThread()) {
+                return;
+            }
+            while (loopThread != null) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+            release();
+        }
+    }
+
+    /**
+     * Closes the listening channel, the connections and the selector, if they are not closed yet.
+     * Must be called while holding the lock of the server.
+     * @throws IOException in case of a channel cannot be closed
+     */
+    private void release() throws IOException {
+        if (released) {
+            return;
+        }
+        released = true;
+        try {
+            for (SelectionKey key : selector.keys()) {
+                key.channel().close();
+            }
+            serverChannel.close();
+        } finally {
+            selector.close();
+        }
+    }
+
+    /**
+     * Accepts a new connection
+     * @throws IOException in case of the connection cannot be registered
+     */
+    private void accept() throws IOException {
+        SocketChannel channel = serverChannel.accept();
+        if (channel == null) {
+            return;
+        }
+        channel.configureBlocking(false);
+        channel.socket().setTcpNoDelay(true);
+        SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+        key.attach(new Connection(channel, key));
+    }
+
+    /**
+     * Closes the connection of the key
+     * @param key - selection key of the connection
+     */
+    private static void closeConnection(SelectionKey key) {
+        key.cancel();
+        try {
+            key.channel().close();
+        } catch (IOException e) {
+            // nothing to do, the connection is dropped anyway
+        }
+    }
+
+    /**
+     * State of a client connection
+     */
+    private class Connection {
+        /**
+         * Channel of the connection
+         */
+        private final SocketChannel channel;
+        /**
+         * Selection key of the channel
+         */
+        private final SelectionKey key;
+        /**
+         * Received bytes that are not processed yet, in write mode
+         */
+        private final ByteBuffer in = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        /**
+         * Responses that are not written yet, in write mode
+         */
+        private ByteBuffer out = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        /**
+         * Line that does not fit into the read buffer, null if the line is in the buffer
+         */
+        private byte[] longLine;
+        /**
+         * Number of bytes in {@link Connection#longLine}
+         */
+        private int longLineLength;
+        /**
+         * True if the connection is in {@link HashServer#pendingWrites}
+         */
+        private boolean writePending;
+        /**
+         * True when the client has closed its side, the connection is closed after the responses are written
+         */
+        private boolean inputClosed;
+
+        /**
+         * Constructor.
+         * @param channel - channel of the connection
+         * @param key - selection key of the channel
+         */
+        Connection(SocketChannel channel, SelectionKey key) {
+            this.channel = channel;
+            this.key = key;
+        }
+
+        /**
+         * Reads the available bytes and answers all complete lines. When the client closes its side,
+         * reading stops and the connection is closed after the pending responses are written.
+         * @throws IOException in case of the connection is broken
+         */
+        void read() throws IOException {
+            int read = channel.read(in);
+            if (read < 0) {
+                inputClosed = true;
+                if (out.position() > 0) {
+                    key.interestOps(SelectionKey.OP_WRITE);
+                } else {
+                    closeConnection(key);
+                }
+                return;
+            }
+            in.flip();
+            byte[] bytes = in.array();
+            int start = 0;
+            for (int i = 0; i < in.limit(); i++) {
+                if (bytes[i] == '\n') {
+                    if (longLine != null) {
+                        appendLongLine(bytes, start, i - start);
+                        handle(longLine, 0, longLineLength);
+                        longLine = null;
+                    } else {
+                        handle(bytes, start, i - start);
+                    }
+                    start = i + 1;
+                }
+            }
+            if (start == 0 && in.limit() == in.capacity()) {
+                // the buffer is full of one incomplete line
+                appendLongLine(bytes, 0, in.limit());
+                start = in.limit();
+            }
+            in.position(start);
+            in.compact();
+            if (out.position() > 0 && !writePending) {
+                writePending = true;
+                pendingWrites.add(this);
+            }
+        }
+
+        /**
+         * Writes the pending responses, waits for the socket to accept the rest if it is not written completely.
+         * Closes the connection when the client has closed its side and all responses are written.
+         * @throws IOException in case of the connection is broken
+         */
+        void write() throws IOException {
+            writePending = false;
+            out.flip();
+            channel.write(out);
+            out.compact();
+            if (out.position() > 0) {
+                // pause reading until the client takes the responses
+                int ops = SelectionKey.OP_WRITE;
+                if (!inputClosed && out.position() < MAX_PENDING_OUTPUT) {
+                    ops |= SelectionKey.OP_READ;
+                }
+                key.interestOps(ops);
+            } else if (inputClosed) {
+                closeConnection(key);
+            } else {
+                key.interestOps(SelectionKey.OP_READ);
+            }
+        }
+
+        /**
+         * Collects a line that is longer than the read buffer
+         * @param bytes - bytes of the line
+         * @param offset - first byte
+         * @param length - number of bytes
+         * @throws IOException in case of the line exceeds {@link HashServer#MAX_LINE}
+         */
+        private void appendLongLine(byte[] bytes, int offset, int length) throws IOException {
+            if (longLine == null) {
+                longLine = new byte[READ_BUFFER_SIZE * 2];
+                longLineLength = 0;
+            }
+            if (longLineLength + length > MAX_LINE) {
+                throw new IOException("Request line is too long");
+            }
+            if (longLineLength + length > longLine.length) {
+                byte[] tmp = new byte[Math.min(MAX_LINE, Math.max(longLineLength + length, longLine.length << 1))];
+                System.arraycopy(longLine, 0, tmp, 0, longLineLength);
+                longLine = tmp;
+            }
+            System.arraycopy(bytes, offset, longLine, longLineLength, length);
+            longLineLength += length;
+        }
+
+        /**
+         * Executes a request line and appends the response
+         * @param bytes - bytes of the line
+         * @param offset - first byte
+         * @param length - number of bytes without '\n'
+         */
+        private void handle(byte[] bytes, int offset, int length) {
+            if (length > 0 && bytes[offset + length - 1] == '\r') {
+                length--;
+            }
+            requests++;
+            if (startsWith(bytes, offset, length, "ADD ")) {
+                writeNumber(hashExample.add(key(bytes, offset + 4, length - 4)));
+            } else if (startsWith(bytes, offset, length, "SEARCH ")) {
+                writeNumber(hashExample.search(key(bytes, offset + 7, length - 7)));
+            } else if (startsWith(bytes, offset, length, "REMOVE ")) {
+                writeNumber(hashExample.remove(key(bytes, offset + 7, length - 7)) ? 1 : 0);
+            } else {
+                ensureOutput(UNKNOWN_COMMAND.length);
+                out.put(UNKNOWN_COMMAND);
+            }
+        }
+
+        /**
+         * Appends the decimal number and '\n' to the output
+         * @param value - number to write
+         */
+        private void writeNumber(int value) {
+            ensureOutput(12);
+            if (value < 0) {
+                out.put((byte) '-');
+                value = -value;
+            }
+            int start = out.position();
+            do {
+                out.put((byte) ('0' + value % 10));
+                value /= 10;
+            } while (value != 0);
+            // digits are written in reverse order
+            byte[] bytes = out.array();
+            for (int i = start, j = out.position() - 1; i < j; i++, j--) {
+                byte tmp = bytes[i];
+                bytes[i] = bytes[j];
+                bytes[j] = tmp;
+            }
+            out.put((byte) '\n');
+        }
+
+        /**
+         * Grows the output buffer if there is less room than requested
+         * @param length - number of bytes to write
+         */
+        private void ensureOutput(int length) {
+            if (out.remaining() < length) {
+                ByteBuffer tmp = ByteBuffer.allocate(Math.max(out.capacity() << 1, out.position() + length));
+                out.flip();
+                tmp.put(out);
+                out = tmp;
+            }
+        }
+
+        /**
+         * Decodes the key of the request
+         * @param bytes - bytes of the line
+         * @param offset - first byte of the key
+         * @param length - number of bytes of the key
+         * @return key
+         */
+        private String key(byte[] bytes, int offset, int length) {
+            return new String(bytes, offset, length, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Checks the command of the line
+         * @param bytes - bytes of the line
+         * @param offset - first byte of the line
+         * @param length - number of bytes of the line
+         * @param prefix - command with the separating space, ASCII
+         * @return true if the line starts with the prefix
+         */
+        private boolean startsWith(byte[] bytes, int offset, int length, String prefix) {
+            if (length < prefix.length()) {
+                return false;
+            }
+            for (int i = 0; i < prefix.length(); i++) {
+                if (bytes[offset + i] != prefix.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Author: Svetlana Dukkardt
+ * Student number: 040851905
+ * Lab: 8
+ * Date: 18 October, 2026
+ * Purpose: Saves and loads the contents of the hash table in a binary file
+ */
+
+package lab8;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Saves and loads the contents and the slot layout of the {@link HashExample hash table}.
+ * <p>
+ * File layout, big-endian:
+ * <pre>
+ * header:  int magic, int version, long sequence number, byte resizable, byte {@link HashStrategy hash strategy}
+ *          ordinal, float load factor, int maximum size of the bounded table or 0, int size, int slot count
+ * arena:   for each stored string - int length in bytes, UTF-8 bytes
+ * slots:   int offset of the string in the arena for each slot, -1 for an empty slot, -2 for a tombstone
+ * trailer: long arena length, long CRC32 of all the preceding bytes
+ * </pre>
+ * Loading maps the file, verifies its length and checksum and puts every string back into its slot,
+ * so no value is hashed again. Tombstones are kept, so the probe runs that pass them stay intact.
+ * The load is still linear to the file size: the checksum reads every byte and every string is decoded
+ * into the heap, since the table keeps {@link String strings} in its slots.
+ * The reference bits of the bounded table are not saved, the restored table starts with all of them cleared.
+ * <p>
+ * Every save of a table writes the next sequence number, and the restored table keeps the number it was loaded with.
+ * {@link HashJournal} compares it with the number in its header, so the records that are already in the snapshot
+ * are not replayed again.
+ * The whole file has to be smaller than 2 GB.
+ *
+ * @author Svetlana Dukkardt
+ */
+public class HashSnapshot {
+    /**
+     * File signature
+     */
+    private static final int MAGIC = 0x4C384853;
+    /**
+     * Version of the file layout
+     */
+    private static final int VERSION = 2;
+    /**
+     * Size of the header in bytes
+     */
+    private static final int HEADER_SIZE = 4 + 4 + 8 + 1 + 1 + 4 + 4 + 4 + 4;
+    /**
+     * Size of the trailer in bytes
+     */
+    private static final int TRAILER_SIZE = 8 + 8;
+    /**
+     * Slot offset of an empty slot
+     */
+    private static final int EMPTY = -1;
+    /**
+     * Slot offset of a tombstone
+     */
+    private static final int TOMBSTONE = -2;
+
+    /**
+     * Constructor.
+     */
+    private HashSnapshot() {}
+
+    /**
+     * Saves the table into the file. The file is replaced only when the snapshot is completely written,
+     * then the table takes the sequence number of the snapshot.
+     * @param hashExample - table to save
+     * @param file - file to save to
+     * @throws IOException in case of the file cannot be written or the table is too large
+     */
+    public static void save(HashExample hashExample, Path file) throws IOException {
+        String[] dataItems = hashExample.getDataItems();
+        int[] offsets = new int[dataItems.length];
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        CRC32 crc = new CRC32();
+        long sequence = hashExample.getSnapshotSequence() + 1;
+        try (DataOutputStream out = new DataOutputStream(new CheckedOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(tmp), 1 << 16), crc))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(sequence);
+            out.writeBoolean(hashExample.isResizable());
+            out.writeByte(hashExample.getHashStrategy().ordinal());
+            out.writeFloat(hashExample.getLoadFactorLimit());
+            out.writeInt(hashExample.getMaxSize());
+            out.writeInt(hashExample.size());
+            out.writeInt(dataItems.length);
+
+            long arenaLength = 0;
+            for (int i = 0; i < dataItems.length; i++) {
+                if (dataItems[i] == null) {
+                    offsets[i] = EMPTY;
+                    continue;
+                }
+                if (dataItems[i] == HashExample.TOMBSTONE) {
+                    offsets[i] = TOMBSTONE;
+                    continue;
+                }
+                byte[] bytes = dataItems[i].getBytes(StandardCharsets.UTF_8);
+                if (arenaLength + 4 + bytes.length > Integer.MAX_VALUE) {
+                    throw new IOException("Table is too large for the snapshot");
+                }
+                offsets[i] = (int) arenaLength;
+                out.writeInt(bytes.length);
+                out.write(bytes);
+                arenaLength += 4 + bytes.length;
+            }
+            if (HEADER_SIZE + arenaLength + 4L * offsets.length + TRAILER_SIZE > Integer.MAX_VALUE) {
+                throw new IOException("Table is too large for the snapshot");
+            }
+            for (int offset : offsets) {
+                out.writeInt(offset);
+            }
+            out.writeLong(arenaLength);
+            out.flush();
+            // the checksum itself is not covered
+            out.writeLong(crc.getValue());
+        } catch (IOException e) {
+            Files.deleteIfExists(tmp);
+            throw e;
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        hashExample.setSnapshotSequence(sequence);
+    }
+
+    /**
+     * Loads the table from the file
+     * @param file - file to load from
+     * @return restored table
+     * @throws IOException in case of the file cannot be read, is truncated or corrupted
+     */
+    public static HashExample load(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_SIZE + TRAILER_SIZE || fileSize > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot is truncated or corrupted");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+            int dataSize = (int) fileSize - 8;
+            CRC32 crc = new CRC32();
+            crc.update(buffer.slice(0, dataSize));
+            if (crc.getValue() != buffer.getLong(dataSize)) {
+                throw new IOException("Snapshot is truncated or corrupted: checksum mismatch");
+            }
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                throw new IOException("Unsupported snapshot format");
+            }
+            long sequence = buffer.getLong(8);
+            boolean resizable = buffer.get(16) != 0;
+            int ordinal = buffer.get(17);
+            if (ordinal < 0 || ordinal >= HashStrategy.values().length) {
+                throw new IOException("Snapshot is corrupted: unknown hash strategy");
+            }
+            HashStrategy hashStrategy = HashStrategy.values()[ordinal];
+            float loadFactor = buffer.getFloat(18);
+            int maxSize = buffer.getInt(22);
+            int size = buffer.getInt(26);
+            int slotCount = buffer.getInt(30);
+            long arenaLength = buffer.getLong(dataSize - 8);
+            if (sequence <= 0) {
+                throw new IOException("Snapshot is corrupted: invalid sequence number");
+            }
+            if (slotCount < 0 || arenaLength < 0
+                    || HEADER_SIZE + arenaLength + 4L * slotCount + TRAILER_SIZE != fileSize) {
+                throw new IOException("Snapshot is truncated or corrupted: unexpected length");
+            }
+            if (resizable && (Integer.bitCount(slotCount) != 1 || !(loadFactor > 0 && loadFactor < 1))
+                    || maxSize < 0 || maxSize > 0 && (!resizable || maxSize > slotCount * loadFactor)) {
+                throw new IOException("Snapshot is corrupted: invalid table layout");
+            }
+
+            String[] dataItems = new String[slotCount];
+            int slotsStart = HEADER_SIZE + (int) arenaLength;
+            byte[] bytes = new byte[256];
+            int stored = 0;
+            int tombstones = 0;
+            for (int i = 0; i < slotCount; i++) {
+                int offset = buffer.getInt(slotsStart + 4 * i);
+                if (offset == EMPTY) {
+                    continue;
+                }
+                if (offset == TOMBSTONE) {
+                    dataItems[i] = HashExample.TOMBSTONE;
+                    tombstones++;
+                    continue;
+                }
+                if (offset < 0 || offset > arenaLength - 4) {
+                    throw new IOException("Snapshot is corrupted: invalid string offset");
+                }
+                int stringStart = HEADER_SIZE + offset;
+                int length = buffer.getInt(stringStart);
+                if (length < 0 || length > arenaLength - offset - 4) {
+                    throw new IOException("Snapshot is corrupted: invalid string length");
+                }
+                if (length > bytes.length) {
+                    bytes = new byte[Math.max(length, bytes.length << 1)];
+                }
+                buffer.get(stringStart + 4, bytes, 0, length);
+                dataItems[i] = new String(bytes, 0, length, StandardCharsets.UTF_8);
+                stored++;
+            }
+            if (stored != size) {
+                throw new IOException("Snapshot is corrupted: unexpected number of strings");
+            }
+            HashExample hashExample = new HashExample(dataItems, resizable, hashStrategy, loadFactor, size, tombstones,
+                    maxSize);
+            hashExample.setSnapshotSequence(sequence);
+            return hashExample;
+        }
+    }
+}
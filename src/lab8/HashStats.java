@@ -0,0 +1,374 @@
+/*
+ * Author: Svetlana Dukkardt
+ * Student number: 040851905
+ * Lab: 8
+ * Date: 18 October, 2026
+ * Purpose: Collects the usage statistics of the hash table
+ */
+
+package lab8;
+
+/**
+ * Usage statistics of the {@link HashExample hash table}.
+ * The counters are plain fields that are updated by the table itself, so recording never allocates.
+ * Probe lengths of the lookups are collected into a histogram with power-of-two buckets:
+ * bucket 0 counts lookups that compared no slot, bucket n counts lookups that compared
+ * from 2<sup>n-1</sup> to 2<sup>n</sup> - 1 slots.
+ *
+ * @author Svetlana Dukkardt
+ */
+public class HashStats {
+    /**
+     * Number of histogram buckets
+     */
+    private static final int BUCKETS = 32;
+
+    /**
+     * Number of insert attempts
+     */
+    private long inserts;
+    /**
+     * Number of inserts that cannot be stored
+     */
+    private long rejectedInserts;
+    /**
+     * Number of lookups that found the value
+     */
+    private long hits;
+    /**
+     * Number of lookups that did not find the value
+     */
+    private long misses;
+    /**
+     * Lookup probe length histogram
+     */
+    private final long[] probeHistogram = new long[BUCKETS];
+    /**
+     * Number of remove attempts
+     */
+    private long removes;
+    /**
+     * Number of removes that did not find the value
+     */
+    private long removeMisses;
+    /**
+     * Number of tombstones that are turned into empty slots by the compaction
+     */
+    private long compactedTombstones;
+    /**
+     * Number of elements that are evicted from the bounded table
+     */
+    private long evictions;
+    /**
+     * Number of times the table array was grown
+     */
+    private long resizes;
+    /**
+     * Time spent on growing the table array, in nanoseconds
+     */
+    private long resizeNanos;
+    /**
+     * Number of elements copied into the grown table arrays
+     */
+    private long copiedElements;
+    /**
+     * Number of misses that are answered by the Bloom filter without probing the table
+     */
+    private long bloomFilterMisses;
+    /**
+     * Number of misses that passed the Bloom filter and probed the table
+     */
+    private long bloomFilterFalsePositives;
+    /**
+     * Bloom filter of the table at the moment of the last {@link HashStats#setBloomFilter(BloomFilter)} call
+     */
+    private BloomFilter bloomFilter;
+    /**
+     * Number of stored elements at the moment of the last {@link HashStats#setOccupancy(int, int, int)} call
+     */
+    private int size;
+    /**
+     * Number of tombstones at the moment of the last {@link HashStats#setOccupancy(int, int, int)} call
+     */
+    private int tombstones;
+    /**
+     * Capacity at the moment of the last {@link HashStats#setOccupancy(int, int, int)} call
+     */
+    private int capacity;
+
+    /**
+     * Records an insert attempt
+     * @param stored - false if the value cannot be stored
+     */
+    void recordInsert(boolean stored) {
+        inserts++;
+        if (!stored) {
+            rejectedInserts++;
+        }
+    }
+
+    /**
+     * Records a lookup
+     * @param probes - number of compared slots
+     * @param found - true if the value is found
+     */
+    void recordLookup(int probes, boolean found) {
+        if (found) {
+            hits++;
+        } else {
+            misses++;
+        }
+        probeHistogram[BUCKETS - Integer.numberOfLeadingZeros(probes)]++;
+    }
+
+    /**
+     * Records a miss that is answered by the Bloom filter
+     */
+    void recordBloomFilterMiss() {
+        bloomFilterMisses++;
+        recordLookup(0, false);
+    }
+
+    /**
+     * Records a miss that passed the Bloom filter
+     */
+    void recordBloomFilterFalsePositive() {
+        bloomFilterFalsePositives++;
+    }
+
+    /**
+     * Records a remove attempt
+     * @param removed - false if the value is not found
+     */
+    void recordRemove(boolean removed) {
+        removes++;
+        if (!removed) {
+            removeMisses++;
+        }
+    }
+
+    /**
+     * Records a tombstone that is turned into an empty slot
+     */
+    void recordCompaction() {
+        compactedTombstones++;
+    }
+
+    /**
+     * Records an element that is evicted from the bounded table
+     */
+    void recordEviction() {
+        evictions++;
+    }
+
+    /**
+     * Records the growth of the table array
+     * @param nanos - time spent, in nanoseconds
+     * @param copied - number of elements copied into the new array
+     */
+    void recordResize(long nanos, long copied) {
+        resizes++;
+        resizeNanos += nanos;
+        copiedElements += copied;
+    }
+
+    /**
+     * Updates the occupancy of the table
+     * @param size - number of stored elements
+     * @param tombstones - number of slots that hold a tombstone
+     * @param capacity - capacity of the table
+     */
+    void setOccupancy(int size, int tombstones, int capacity) {
+        this.size = size;
+        this.tombstones = tombstones;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Updates the Bloom filter of the table
+     * @param bloomFilter - Bloom filter, null if disabled
+     */
+    void setBloomFilter(BloomFilter bloomFilter) {
+        this.bloomFilter = bloomFilter;
+    }
+
+    /**
+     * @return number of insert attempts
+     */
+    public long getInserts() {
+        return inserts;
+    }
+
+    /**
+     * @return number of inserts that cannot be stored
+     */
+    public long getRejectedInserts() {
+        return rejectedInserts;
+    }
+
+    /**
+     * @return number of lookups
+     */
+    public long getLookups() {
+        return hits + misses;
+    }
+
+    /**
+     * @return number of lookups that found the value
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return number of lookups that did not find the value
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return ratio of the lookups that found the value, 0 if there were no lookups
+     */
+    public double getHitRatio() {
+        long lookups = getLookups();
+        return lookups == 0 ? 0 : hits / (double) lookups;
+    }
+
+    /**
+     * @return copy of the lookup probe length histogram
+     */
+    public long[] getProbeHistogram() {
+        return probeHistogram.clone();
+    }
+
+    /**
+     * @return number of remove attempts
+     */
+    public long getRemoves() {
+        return removes;
+    }
+
+    /**
+     * @return number of removes that did not find the value
+     */
+    public long getRemoveMisses() {
+        return removeMisses;
+    }
+
+    /**
+     * @return number of tombstones that are turned into empty slots by the compaction
+     */
+    public long getCompactedTombstones() {
+        return compactedTombstones;
+    }
+
+    /**
+     * @return number of elements that are evicted from the bounded table
+     */
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * @return ratio of the tombstones to the used slots
+     */
+    public double getTombstoneRatio() {
+        return size + tombstones == 0 ? 0 : tombstones / (double) (size + tombstones);
+    }
+
+    /**
+     * @return ratio of the stored elements to the capacity
+     */
+    public double getLoadFactor() {
+        return capacity == 0 ? 0 : size / (double) capacity;
+    }
+
+    /**
+     * @return number of times the table array was grown
+     */
+    public long getResizes() {
+        return resizes;
+    }
+
+    /**
+     * @return time spent on growing the table array, in nanoseconds
+     */
+    public long getResizeNanos() {
+        return resizeNanos;
+    }
+
+    /**
+     * @return number of elements copied into the grown table arrays
+     */
+    public long getCopiedElements() {
+        return copiedElements;
+    }
+
+    /**
+     * @return number of misses that are answered by the Bloom filter without probing the table
+     */
+    public long getBloomFilterMisses() {
+        return bloomFilterMisses;
+    }
+
+    /**
+     * @return number of misses that passed the Bloom filter and probed the table
+     */
+    public long getBloomFilterFalsePositives() {
+        return bloomFilterFalsePositives;
+    }
+
+    /**
+     * @return share of the misses that passed the Bloom filter, 0 if there were no misses
+     */
+    public double getObservedFalsePositiveRate() {
+        long checked = bloomFilterMisses + bloomFilterFalsePositives;
+        return checked == 0 ? 0 : bloomFilterFalsePositives / (double) checked;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder()
+                .append("Inserts: ").append(inserts)
+                .append(", rejected: ").append(rejectedInserts).append(System.lineSeparator())
+                .append("Lookups: ").append(getLookups())
+                .append(", hits: ").append(hits)
+                .append(", misses: ").append(misses)
+                .append(String.format(", hit ratio: %.3f", getHitRatio())).append(System.lineSeparator())
+                .append(String.format("Load factor: %.3f (%d / %d)", getLoadFactor(), size, capacity))
+                .append(System.lineSeparator())
+                .append("Removes: ").append(removes)
+                .append(", not found: ").append(removeMisses).append(System.lineSeparator())
+                .append("Tombstones: ").append(tombstones)
+                .append(String.format(" (%.3f of used slots)", getTombstoneRatio()))
+                .append(", compacted: ").append(compactedTombstones)
+                .append(System.lineSeparator())
+                .append("Evictions: ").append(evictions)
+                .append(System.lineSeparator())
+                .append("Resizes: ").append(resizes)
+                .append(", elements copied: ").append(copiedElements)
+                .append(String.format(", time spent resizing: %.3f ms", resizeNanos / 1e6))
+                .append(System.lineSeparator());
+        if (bloomFilter != null) {
+            builder.append(String.format("Bloom filter: configured false positive rate: %.4f, current: %.4f, observed: %.4f",
+                    bloomFilter.getFalsePositiveRate(), bloomFilter.getCurrentFalsePositiveRate(),
+                    getObservedFalsePositiveRate()))
+                    .append(System.lineSeparator())
+                    .append("Bloom filter: misses answered: ").append(bloomFilterMisses)
+                    .append(", false positives: ").append(bloomFilterFalsePositives)
+                    .append(System.lineSeparator());
+        }
+        builder.append("Lookup probe lengths:");
+        for (int i = 0; i < BUCKETS; i++) {
+            if (probeHistogram[i] != 0) {
+                int from = i == 0 ? 0 : 1 << (i - 1);
+                int to = i == 0 ? 0 : (1 << i) - 1;
+                builder.append(System.lineSeparator()).append("  ")
+                        .append(from == to ? String.valueOf(from) : from + "-" + to)
+                        .append(": ").append(probeHistogram[i]);
+            }
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Author: Svetlana Dukkardt
+ * Student number: 040851905
+ * Lab: 8
+ * Date: 18 October, 2026
+ * Purpose: Provides the hash functions the hash table can be built with
+ */
+
+package lab8;
+
+/**
+ * Hash functions the {@link HashExample hash table} can be built with.
+ * The table selects the slot with the low bits of the hash, so every strategy except
+ * {@link HashStrategy#TWO_CHAR} mixes all the bits of the string into the low ones.
+ * Murmur3 and xxHash are calculated over the UTF-16LE code units of the string,
+ * which gives the same values as the reference implementations over the UTF-16LE bytes.
+ *
+ * @author Svetlana Dukkardt
+ */
+public enum HashStrategy {
+    /**
+     * Sum of the first two characters modulo 100, the original hash of the table
+     */
+    TWO_CHAR {
+        @Override
+        public long hash(String value) {
+            if (value.isEmpty()) {
+                return 0;
+            }
+            int firstChar = value.charAt(0);
+            int secondChar = 0;
+            if (value.length() > 1) {
+                secondChar = value.charAt(1);
+            }
+            return (firstChar + secondChar) % 100;
+        }
+    },
+    /**
+     * Cached {@link String#hashCode()} with bit mixing
+     */
+    HASH_CODE {
+        @Override
+        public long hash(String value) {
+            int hash = value.hashCode();
+            hash ^= hash >>> 16;
+            hash *= 0x85ebca6b;
+            hash ^= hash >>> 13;
+            return hash;
+        }
+    },
+    /**
+     * MurmurHash3 x86 32-bit, seed 0
+     */
+    MURMUR3 {
+        @Override
+        public long hash(String value) {
+            int length = value.length();
+            int h1 = 0;
+            int i = 1;
+            for (; i < length; i += 2) {
+                int k1 = value.charAt(i - 1) | (value.charAt(i) << 16);
+                h1 ^= murmurMixK1(k1);
+                h1 = Integer.rotateLeft(h1, 13);
+                h1 = h1 * 5 + 0xe6546b64;
+            }
+            if ((length & 1) == 1) {
+                h1 ^= murmurMixK1(value.charAt(length - 1));
+            }
+            h1 ^= 2 * length;
+            h1 ^= h1 >>> 16;
+            h1 *= 0x85ebca6b;
+            h1 ^= h1 >>> 13;
+            h1 *= 0xc2b2ae35;
+            h1 ^= h1 >>> 16;
+            return h1;
+        }
+    },
+    /**
+     * xxHash 64-bit, seed 0
+     */
+    XXHASH64 {
+        @Override
+        public long hash(String value) {
+            int length = value.length();
+            int i = 0;
+            long hash;
+            if (length >= 16) {
+                // 32-byte stripes, four accumulators
+                long v1 = XXH_PRIME64_1 + XXH_PRIME64_2;
+                long v2 = XXH_PRIME64_2;
+                long v3 = 0;
+                long v4 = -XXH_PRIME64_1;
+                for (; i + 16 <= length; i += 16) {
+                    v1 = xxRound(v1, lane(value, i));
+                    v2 = xxRound(v2, lane(value, i + 4));
+                    v3 = xxRound(v3, lane(value, i + 8));
+                    v4 = xxRound(v4, lane(value, i + 12));
+                }
+                hash = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7)
+                        + Long.rotateLeft(v3, 12) + Long.rotateLeft(v4, 18);
+                hash = xxMergeRound(hash, v1);
+                hash = xxMergeRound(hash, v2);
+                hash = xxMergeRound(hash, v3);
+                hash = xxMergeRound(hash, v4);
+            } else {
+                hash = XXH_PRIME64_5;
+            }
+            hash += 2L * length;
+            for (; i + 4 <= length; i += 4) {
+                hash ^= xxRound(0, lane(value, i));
+                hash = Long.rotateLeft(hash, 27) * XXH_PRIME64_1 + XXH_PRIME64_4;
+            }
+            if (i + 2 <= length) {
+                long k = (value.charAt(i) | ((long) value.charAt(i + 1) << 16)) & 0xffffffffL;
+                hash ^= k * XXH_PRIME64_1;
+                hash = Long.rotateLeft(hash, 23) * XXH_PRIME64_2 + XXH_PRIME64_3;
+                i += 2;
+            }
+            if (i < length) {
+                // the last code unit is two single bytes
+                char c = value.charAt(i);
+                hash ^= (c & 0xff) * XXH_PRIME64_5;
+                hash = Long.rotateLeft(hash, 11) * XXH_PRIME64_1;
+                hash ^= (c >>> 8) * XXH_PRIME64_5;
+                hash = Long.rotateLeft(hash, 11) * XXH_PRIME64_1;
+            }
+            hash ^= hash >>> 33;
+            hash *= XXH_PRIME64_2;
+            hash ^= hash >>> 29;
+            hash *= XXH_PRIME64_3;
+            hash ^= hash >>> 32;
+            return hash;
+        }
+    };
+
+    /**
+     * xxHash 64-bit primes
+     */
+    private static final long XXH_PRIME64_1 = 0x9E3779B185EBCA87L;
+    private static final long XXH_PRIME64_2 = 0xC2B2AE3D27D4EB4FL;
+    private static final long XXH_PRIME64_3 = 0x165667B19E3779F9L;
+    private static final long XXH_PRIME64_4 = 0x85EBCA77C2B2AE63L;
+    private static final long XXH_PRIME64_5 = 0x27D4EB2F165667C5L;
+
+    /**
+     * Calculates the hash of the value
+     * @param value - value to hash
+     * @return hash value, the table uses its low 32 bits
+     */
+    public abstract long hash(String value);
+
+    /**
+     * Mixes a 4-byte block of MurmurHash3
+     * @param k1 - block
+     * @return mixed block
+     */
+    private static int murmurMixK1(int k1) {
+        k1 *= 0xcc9e2d51;
+        k1 = Integer.rotateLeft(k1, 15);
+        return k1 * 0x1b873593;
+    }
+
+    /**
+     * Reads four UTF-16 code units as a little-endian 8-byte lane
+     * @param value - string to read
+     * @param i - index of the first code unit
+     * @return lane value
+     */
+    private static long lane(String value, int i) {
+        return value.charAt(i) | ((long) value.charAt(i + 1) << 16)
+                | ((long) value.charAt(i + 2) << 32) | ((long) value.charAt(i + 3) << 48);
+    }
+
+    /**
+     * xxHash 64-bit accumulator round
+     * @param acc - accumulator
+     * @param input - lane
+     * @return new accumulator
+     */
+    private static long xxRound(long acc, long input) {
+        acc += input * XXH_PRIME64_2;
+        acc = Long.rotateLeft(acc, 31);
+        return acc * XXH_PRIME64_1;
+    }
+
+    /**
+     * xxHash 64-bit accumulator merge
+     * @param hash - hash
+     * @param acc - accumulator to merge
+     * @return new hash
+     */
+    private static long xxMergeRound(long hash, long acc) {
+        hash ^= xxRound(0, acc);
+        return hash * XXH_PRIME64_1 + XXH_PRIME64_4;
+    }
+}
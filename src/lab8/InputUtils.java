@@ -6,9 +6,12 @@
  * Purpose: Provides the set of methods that helps to read and validate user input
  */
 
+package lab8;
+
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Scanner;
 import java.util.function.Consumer;
@@ -29,7 +32,12 @@ public class InputUtils {
     /**
      * Predicate that validates the users inputs for main menu choices
      */
-    public static final Predicate<Integer> MAIN_MENU_CHOICES = value -> value > 0 && value <= 3;
+    public static final Predicate<Integer> MAIN_MENU_CHOICES = value -> value > 0 && value <= 6;
+    
+    /**
+     * Predicate that validates the users inputs for menu choices of the integer keys
+     */
+    public static final Predicate<Integer> INT_MENU_CHOICES = value -> value > 0 && value <= 5;
     
     /**
      * Predicate that validates the users inputs for integers greater than zero
@@ -277,6 +285,165 @@ public class InputUtils {
         }
     }
 
+    /**
+     * Reads and validates the {@link String value} from user input.
+     * Overloads {@link InputUtils#getString(ConsoleReader, Predicate, String, String)} method
+     * @param reader   - {@link ConsoleReader reader} instance that reads user inputs
+     * @param promptMessage   - {@link String prompt message} that is shown for user
+     * @return {@link String value} that user entered.
+     */
+    public static String getString(ConsoleReader reader, String promptMessage) {
+        return getString(reader, Objects::nonNull, promptMessage, "");
+    }
+
+    /**
+     * Reads and validates the {@link String value} from user input.
+     * Overloads {@link InputUtils#getString(ConsoleReader, Predicate, String, String)} method
+     * @param reader   - {@link ConsoleReader reader} instance that reads user inputs
+     * @param predicate - {@link Predicate expression} that is used to perform custom validation on the user input, if null - executes only null check.
+     * @param promptMessage   - {@link String prompt message} that is shown for user
+     * @return {@link String value} that user entered.
+     */
+    public static String getString(ConsoleReader reader, Predicate<String> predicate, String promptMessage) {
+        return getString(reader, predicate, promptMessage, "");
+    }
+
+    /**
+     * Reads and validates the {@link String value} from user input.
+     * Overloads {@link InputUtils#getString(ConsoleReader, Predicate, String, String)} method
+     * @param reader   - {@link ConsoleReader reader} instance that reads user inputs
+     * @param promptMessage   - {@link String prompt message} that is shown for user
+     * @param alert     - {@link String error message} that is shown to user in case of invalid input
+     * @return {@link String value} that user entered.
+     */
+    public static String getString(ConsoleReader reader, String promptMessage, String alert) {
+        return getString(reader, Objects::nonNull, promptMessage, alert);
+    }
+
+    /**
+     * Reads and validates the {@link String value} from user input.
+     * In case of user enters invalid value the method prints the error message provided by alert parameter
+     * and requests the new attempt to input
+     *
+     * @param reader   - {@link ConsoleReader reader} instance that reads user inputs
+     * @param predicate - {@link Predicate expression} that is used to perform custom validation on the user input, if null - executes only null check.
+     * @param promptMessage   - {@link String prompt message} that is shown for user
+     * @param alert     - {@link String error message} that is shown to user in case of invalid input
+     * @return {@link String value} that user entered.
+     */
+    public static String getString(ConsoleReader reader, Predicate<String> predicate, String promptMessage, String alert) {
+        return consoleReader(reader, ConsoleReader::getLine, predicate, promptMessage, DEFAULT_PRINTER, alert);
+    }
+
+    /**
+     * Reads and validates the float value from user input.
+     * Overloads {@link InputUtils#getFloat(ConsoleReader, Predicate, String, Consumer, String)} method
+     * @param reader   - {@link ConsoleReader reader} instance that reads user inputs
+     * @param predicate - {@link Predicate expression} that is used to perform custom validation on the user input, if null - executes only null check.
+     * @param promptMessage   - {@link String prompt message} that is shown for user
+     * @param alert     - {@link String error message} that is shown to user in case of invalid input
+     * @return float value that user entered.
+     */
+    public static float getFloat(ConsoleReader reader, Predicate<Float> predicate, String promptMessage, String alert) {
+        return getFloat(reader, predicate, promptMessage, DEFAULT_PRINTER, alert);
+    }
+
+    /**
+     * Reads and validates the float value from user input.
+     * In case of user enters invalid value the method prints the error message provided by alert parameter
+     * and requests the new attempt to input
+     *
+     * @param reader   - {@link ConsoleReader reader} instance that reads user inputs
+     * @param predicate - {@link Predicate expression} that is used to perform custom validation on the user input, if null - executes only null check.
+     * @param promptMessage   - {@link String prompt message} that is shown for user
+     * @param promptPrinter   - {@link Consumer prompt message printer} that is prints message to user
+     * @param alert     - {@link String error message} that is shown to user in case of invalid input
+     * @return float value that user entered.
+     */
+    public static float getFloat(ConsoleReader reader, Predicate<Float> predicate, String promptMessage,
+                                 Consumer<String> promptPrinter, String alert) {
+        return consoleReader(reader, r -> r.parseFloat() ? r.getFloatValue() : null,
+                predicate, promptMessage, promptPrinter, alert);
+    }
+
+    /**
+     * Reads and validates the integer value from user input.
+     * Overloads {@link InputUtils#getInt(ConsoleReader, Predicate, String, Consumer, String)} method
+     * @param reader - {@link ConsoleReader reader} instance that reads user inputs
+     * @param promptMessage - {@link String prompt message} that is shown for user
+     * @param alert   - {@link String error message} that is shown to user in case of invalid input
+     * @return int value that user entered.
+     */
+    public static int getInt(ConsoleReader reader, String promptMessage, String alert) {
+        return getInt(reader, null, promptMessage, DEFAULT_PRINTER, alert);
+    }
+
+    /**
+     * Reads and validates the integer value from user input.
+     * Overloads {@link InputUtils#getInt(ConsoleReader, Predicate, String, Consumer, String)} method
+     * @param reader   - {@link ConsoleReader reader} instance that reads user inputs
+     * @param predicate - {@link Predicate expression} that is used to perform custom validation on the user input, if null - executes only null check.
+     * @param promptMessage   - {@link String prompt message} that is shown for user
+     * @param alert     - {@link String error message} that is shown to user in case of invalid input
+     * @return int value that user entered.
+     */
+    public static int getInt(ConsoleReader reader, Predicate<Integer> predicate, String promptMessage, String alert) {
+        return getInt(reader, predicate, promptMessage, DEFAULT_PRINTER, alert);
+    }
+
+    /**
+     * Reads and validates the integer value from user input.
+     * In case of user enters invalid value the method prints the error message provided by alert parameter
+     * and requests the new attempt to input
+     *
+     * @param reader   - {@link ConsoleReader reader} instance that reads user inputs
+     * @param predicate - {@link Predicate expression} that is used to perform custom validation on the user input, if null - executes only null check.
+     * @param promptMessage   - {@link String prompt message} that is shown for user
+     * @param promptPrinter   - {@link Consumer prompt message printer} that is prints message to user
+     * @param alert     - {@link String error message} that is shown to user in case of invalid input
+     * @return int value that user entered.
+     */
+    public static int getInt(ConsoleReader reader, Predicate<Integer> predicate, String promptMessage,
+                             Consumer<String> promptPrinter, String alert) {
+        return consoleReader(reader, r -> r.parseInt() ? r.getIntValue() : null,
+                predicate, promptMessage, promptPrinter, alert);
+    }
+
+    /**
+     * Reads and validates the {@link LocalDate date value} from user input.
+     * Overloads {@link InputUtils#getDate(ConsoleReader, String, Consumer, String)} method
+     * @param reader   - {@link ConsoleReader reader} instance that reads user inputs
+     * @param promptMessage   - {@link String prompt message} that is shown for user
+     * @param alert     - {@link String error message} that is shown to user in case of invalid input
+     * @return {@link LocalDate date value} that user entered.
+     */
+    public static LocalDate getDate(ConsoleReader reader, String promptMessage, String alert) {
+        return getDate(reader, promptMessage, DEFAULT_PRINTER, alert);
+    }
+
+    /**
+     * Reads and validates the {@link LocalDate date value} from user input.
+     * In case of user enters invalid value the method prints the error message provided by alert parameter
+     * and requests the new attempt to input
+     *
+     * @param reader   - {@link ConsoleReader reader} instance that reads user inputs
+     * @param promptMessage   - {@link String prompt message} that is shown for user
+     * @param promptPrinter   - {@link Consumer prompt message printer} that is prints message to user
+     * @param alert     - {@link String error message} that is shown to user in case of invalid input
+     * @return {@link LocalDate date value} that user entered.
+     */
+    public static LocalDate getDate(ConsoleReader reader, String promptMessage,
+                                    Consumer<String> promptPrinter, String alert) {
+        return consoleReader(reader, r -> {
+            try {
+                return dateParser.apply(r.getLine());
+            } catch (DateTimeParseException e) {
+                System.out.println(e.getMessage());
+                return null;
+            }
+        }, Objects::nonNull, promptMessage, promptPrinter, alert);
+    }
+
     /**
      * Validates the provided value from user input.
      *
@@ -368,4 +535,32 @@ public class InputUtils {
             throw new RuntimeException(msg);
         }
     }
+
+    /**
+     * Reads data value from the {@link ConsoleReader reader} and validates it.
+     * Invalid input is reported without exceptions.
+     * @param reader {@link ConsoleReader reader} instance that reads user inputs
+     * @param parser - {@link Function expression} that converts the read line to expected data type, returns null for invalid input.
+     * @param predicate - {@link Predicate expression} that is used to perform custom validation on the user input, if null - executes only null check.
+     * @param promptMessage   - {@link String prompt message} that is shown for user
+     * @param promptPrinter   - {@link Consumer prompt message printer} that is prints message to user
+     * @param alert     - {@link String error message} that is shown to user in case of invalid input
+     * @param <T> - exact type of returning data that is expected
+     * @return valid data that is read from user input.
+     * @throws NoSuchElementException in case of the input is over
+     */
+    private static <T> T consoleReader(ConsoleReader reader, Function<ConsoleReader, T> parser, Predicate<T> predicate,
+                                       String promptMessage, Consumer<String> promptPrinter, String alert) {
+        while (true) {
+            printPromptMessage(promptMessage, promptPrinter);
+            if (!reader.readLine()) {
+                throw new NoSuchElementException("No line found");
+            }
+            T value = parser.apply(reader);
+            if (validateValue(value, predicate, alert)) {
+                return value;
+            }
+            System.out.println(alert);
+        }
+    }
 }
@@ -0,0 +1,145 @@
+/*
+ * Author: Svetlana Dukkardt
+ * Student number: 040851905
+ * Lab: 8
+ * Date: 18 October, 2026
+ * Purpose: Provides the hash table of int keys
+ */
+
+package lab8;
+
+/**
+ * Hash table of int keys that stores them in an int array without boxing.
+ * Like {@link HashExample} it maps a key to the index of its slot.
+ *
+ * @author Svetlana Dukkardt
+ */
+public class IntHashExample extends PrimitiveHashExample {
+    /**
+     * Slots of the table, the last one holds the key 0
+     */
+    private int[] keys;
+
+    /**
+     * Constructor. Creates the table with the default capacity and load factor.
+     */
+    public IntHashExample() {
+        this(HashExample.DEFAULT_CAPACITY, HashExample.DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Constructor.
+     * @param initialCapacity - expected number of elements
+     * @param loadFactor - maximum ratio of stored elements to the capacity, between 0 and 1
+     */
+    public IntHashExample(int initialCapacity, float loadFactor) {
+        super(initialCapacity, loadFactor);
+        keys = new int[capacity() + 1];
+    }
+
+    /**
+     * Adds a key to the table. The key that is already stored is not added again.
+     * @param key - key to add
+     * @return index where the key is stored, or -1 if the key cannot be added
+     */
+    public int add(int key) {
+        if (key == 0) {
+            if (!containsZero) {
+                containsZero = true;
+                size++;
+            }
+            return capacity();
+        }
+        int index = search(key);
+        if (index >= 0) {
+            return index;
+        }
+        if (!ensureRoom()) {
+            return -1;
+        }
+        index = mix(key) & mask;
+        while (keys[index] != 0) {
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        size++;
+        return index;
+    }
+
+    /**
+     * Searches for a key in the table
+     * @param key - key to search
+     * @return index of the key, or -1 if the key is not found
+     */
+    public int search(int key) {
+        if (key == 0) {
+            return containsZero ? capacity() : -1;
+        }
+        for (int index = mix(key) & mask; keys[index] != 0; index = (index + 1) & mask) {
+            if (keys[index] == key) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Removes a key from the table
+     * @param key - key to remove
+     * @return true if the key was stored
+     */
+    public boolean remove(int key) {
+        if (key == 0) {
+            if (!containsZero) {
+                return false;
+            }
+            containsZero = false;
+            size--;
+            return true;
+        }
+        int index = search(key);
+        if (index < 0) {
+            return false;
+        }
+        shiftKeys(index);
+        size--;
+        return true;
+    }
+
+    @Override
+    void rehash(int capacity) {
+        int[] old = keys;
+        int newMask = capacity - 1;
+        keys = new int[capacity + 1];
+        for (int i = 0; i < old.length - 1; i++) {
+            int key = old[i];
+            if (key != 0) {
+                int index = mix(key) & newMask;
+                while (keys[index] != 0) {
+                    index = (index + 1) & newMask;
+                }
+                keys[index] = key;
+            }
+        }
+    }
+
+    @Override
+    boolean isFree(int slot) {
+        return keys[slot] == 0;
+    }
+
+    @Override
+    int slotHash(int slot) {
+        return mix(keys[slot]);
+    }
+
+    @Override
+    void moveKey(int from, int to) {
+        keys[to] = keys[from];
+    }
+
+    @Override
+    void freeSlot(int slot) {
+        keys[slot] = 0;
+    }
+}
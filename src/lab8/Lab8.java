@@ -0,0 +1,475 @@
+/*
+ * Author: Svetlana Dukkardt
+ * Student number: 040851905
+ * Lab: 8
+ * Date: 4 April, 2020
+ * Purpose: Main class for Lab8
+ */
+
+package lab8;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Main class for Lab8
+ */
+public class Lab8 {
+    
+    /**
+     * {@link ConsoleReader reader} object that is used to read user input
+     */
+    private static ConsoleReader reader = new ConsoleReader(System.in);
+    
+    /**
+     * Command line option that switches the table to resizable mode
+     */
+    private static final String RESIZABLE_OPTION = "--resizable";
+    
+    /**
+     * Command line option that loads the strings from the file before the menu is shown
+     */
+    private static final String LOAD_OPTION = "--load";
+    
+    /**
+     * Command line option that restores the table from the snapshot file on start and saves it on exit
+     */
+    private static final String SNAPSHOT_OPTION = "--snapshot";
+    
+    /**
+     * Command line option that enables the Bloom filter with the given false positive rate
+     */
+    private static final String BLOOM_OPTION = "--bloom";
+    
+    /**
+     * Command line option that selects the {@link HashStrategy hash function} of the table
+     */
+    private static final String HASH_OPTION = "--hash";
+    
+    /**
+     * Command line option that creates the bounded table that evicts instead of rejecting new strings
+     */
+    private static final String CACHE_OPTION = "--cache";
+    
+    /**
+     * Command line option that serves the table over TCP on the given local port instead of showing the menu
+     */
+    private static final String SERVE_OPTION = "--serve";
+    
+    /**
+     * Command line option that executes the commands of the file without the menu
+     */
+    private static final String SCRIPT_OPTION = "--script";
+    
+    /**
+     * Command line option that writes the responses of the script into the file instead of the standard output
+     */
+    private static final String SCRIPT_OUTPUT_OPTION = "--script-output";
+    
+    /**
+     * Command line option that maintains the ordered index for the prefix search
+     */
+    private static final String PREFIX_INDEX_OPTION = "--prefix-index";
+    
+    /**
+     * Command line option that works with the table of integer keys instead of strings
+     */
+    private static final String INT_KEYS_OPTION = "--int-keys";
+    
+    /**
+     * Command line option that replays the journal file on start and appends the changes of the table to it
+     */
+    private static final String JOURNAL_OPTION = "--journal";
+    
+    /**
+     * Command line option that sets the maximum time in milliseconds a journal record waits to become durable
+     */
+    private static final String JOURNAL_DELAY_OPTION = "--journal-delay";
+    
+    /**
+     * Default maximum time in milliseconds a journal record waits to become durable
+     */
+    private static final long DEFAULT_JOURNAL_DELAY = 10;
+    
+    /**
+     * Released when the main thread is done, the shutdown hook of the server waits for it
+     */
+    private static final CountDownLatch exited = new CountDownLatch(1);
+
+    /**
+     * Entry point.
+     * @param args - command line options, {@value #RESIZABLE_OPTION} to use the resizable table,
+     *             {@value #LOAD_OPTION} file - to load the strings from the file into the resizable table,
+     *             {@value #SNAPSHOT_OPTION} file - to restore the table from the snapshot and save it on exit,
+     *             {@value #BLOOM_OPTION} rate - to answer lookup misses with the Bloom filter of the given false positive rate,
+     *             {@value #HASH_OPTION} name - to build the table with the {@link HashStrategy hash function},
+     *             {@value #CACHE_OPTION} size - to use the bounded table that keeps at most the given number of strings,
+     *             {@value #SERVE_OPTION} port - to serve the table with {@link HashServer} on the loopback interface
+     *             until the process is interrupted,
+     *             {@value #SCRIPT_OPTION} file - to execute the ADD, SEARCH and REMOVE commands of the file
+     *             with {@link ScriptRunner} instead of showing the menu,
+     *             {@value #SCRIPT_OUTPUT_OPTION} file - to write the responses of the script into the file,
+     *             {@value #JOURNAL_OPTION} file - to replay the journal on start and append every change to it,
+     *             it is cleared when the snapshot is saved,
+     *             {@value #JOURNAL_DELAY_OPTION} ms - maximum time a journal record waits to become durable,
+     *             {@value #DEFAULT_JOURNAL_DELAY} by default,
+     *             {@value #PREFIX_INDEX_OPTION} - to answer the prefix search with the ordered index instead of a scan,
+     *             {@value #INT_KEYS_OPTION} - to work with the {@link IntHashExample table of integer keys},
+     *             the other options are ignored
+     */
+    public static void main(String[] args) {
+        for (String arg : args) {
+            if (INT_KEYS_OPTION.equals(arg)) {
+                runIntMenu(new IntHashExample());
+                System.out.println("Exiting...");
+                return;
+            }
+        }
+        String snapshotFile = getOptionValue(args, SNAPSHOT_OPTION);
+        HashExample hashExample = snapshotFile == null ? null : loadSnapshot(Paths.get(snapshotFile));
+        if (hashExample == null) {
+            hashExample = createHashExample(args);
+        }
+        String journalFile = getOptionValue(args, JOURNAL_OPTION);
+        HashJournal journal = journalFile == null ? null
+                : openJournal(hashExample, Paths.get(journalFile), getOptionValue(args, JOURNAL_DELAY_OPTION));
+        String bloomRate = getOptionValue(args, BLOOM_OPTION);
+        if (bloomRate != null) {
+            enableBloomFilter(hashExample, bloomRate);
+        }
+        for (String arg : args) {
+            if (PREFIX_INDEX_OPTION.equals(arg)) {
+                hashExample.setPrefixIndex(true);
+            }
+        }
+        String loadFile = getOptionValue(args, LOAD_OPTION);
+        if (loadFile != null) {
+            bulkLoad(hashExample, loadFile);
+        }
+        try {
+            String servePort = getOptionValue(args, SERVE_OPTION);
+            String scriptFile = getOptionValue(args, SCRIPT_OPTION);
+            if (servePort != null) {
+                serve(hashExample, servePort);
+            } else if (scriptFile != null) {
+                runScript(hashExample, Paths.get(scriptFile), getOptionValue(args, SCRIPT_OUTPUT_OPTION));
+            } else {
+                runMenu(hashExample);
+            }
+            boolean saved = snapshotFile != null && saveSnapshot(hashExample, Paths.get(snapshotFile));
+            if (journal != null) {
+                closeJournal(journal, saved);
+            }
+            System.out.println("Exiting...");
+        } finally {
+            exited.countDown();
+        }
+    }
+
+    /**
+     * Shows the menu and executes the selected options until the user exits or the input is over
+     * @param hashExample - table to work with
+     */
+    private static void runMenu(HashExample hashExample) {
+        int choice;
+        try {
+            do {
+                choice = InputUtils.getInt(reader, InputUtils.MAIN_MENU_CHOICES, null, s -> displayMenu(), "Invalid choice");
+                switch (choice) {
+                    case 1:
+                        // add a string
+                        TableMenu.addString(hashExample, reader);
+                        break;
+                    case 2:
+                        // search for String
+                        TableMenu.searchString(hashExample, reader);
+                        break;
+                    case 3:
+                        // remove a string
+                        TableMenu.removeString(hashExample, reader);
+                        break;
+                    case 4:
+                        // search by prefix
+                        TableMenu.searchPrefix(hashExample, reader);
+                        break;
+                    case 5:
+                        // show statistics
+                        System.out.println(hashExample.getStats());
+                        break;
+                }
+            } while (choice != 6);
+        } catch (NoSuchElementException e) {
+            // the input is over
+            System.out.println();
+        }
+    }
+
+    /**
+     * Shows the menu of the integer keys and executes the selected options until the user exits or the input is over
+     * @param intHashExample - table to work with
+     */
+    private static void runIntMenu(IntHashExample intHashExample) {
+        int choice;
+        try {
+            do {
+                choice = InputUtils.getInt(reader, InputUtils.INT_MENU_CHOICES, null, s -> displayIntMenu(), "Invalid choice");
+                switch (choice) {
+                    case 1:
+                        // add an integer
+                        TableMenu.addKey(intHashExample, reader);
+                        break;
+                    case 2:
+                        // search for an integer
+                        TableMenu.searchKey(intHashExample, reader);
+                        break;
+                    case 3:
+                        // remove an integer
+                        TableMenu.removeKey(intHashExample, reader);
+                        break;
+                    case 4:
+                        // show the size
+                        System.out.println("Size: " + intHashExample.size() + ", capacity: " + intHashExample.capacity());
+                        break;
+                }
+            } while (choice != 5);
+        } catch (NoSuchElementException e) {
+            // the input is over
+            System.out.println();
+        }
+    }
+
+    /**
+     * Executes the commands of the script and prints the summary
+     * @param hashExample - table to execute the commands on
+     * @param script - file of commands
+     * @param outputFile - file for the responses, null for the standard output
+     */
+    private static void runScript(HashExample hashExample, Path script, String outputFile) {
+        try {
+            ScriptRunner.Result result;
+            if (outputFile == null) {
+                result = ScriptRunner.run(script, hashExample, System.out);
+            } else {
+                try (OutputStream out = Files.newOutputStream(Paths.get(outputFile))) {
+                    result = ScriptRunner.run(script, hashExample, out);
+                }
+            }
+            System.out.println(result);
+        } catch (IOException e) {
+            System.out.println("Script cannot be executed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Serves the table over TCP until the process is interrupted.
+     * The shutdown hook stops the server and waits until the main thread saves the snapshot.
+     * @param hashExample - table to serve
+     * @param port - local port to listen on
+     */
+    private static void serve(HashExample hashExample, String port) {
+        try (HashServer server = new HashServer(hashExample,
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), Integer.parseInt(port)))) {
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                server.stop();
+                try {
+                    exited.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            System.out.println("Serving on port " + server.getPort() + ", press Ctrl+C to stop");
+            server.run();
+            System.out.println("Requests served: " + server.getRequests());
+        } catch (IOException | IllegalArgumentException e) {
+            System.out.println("Server cannot be started: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Creates the table according to the command line options
+     * @param args - command line options
+     * @return table to work with
+     */
+    private static HashExample createHashExample(String[] args) {
+        String hashName = getOptionValue(args, HASH_OPTION);
+        HashStrategy hashStrategy = null;
+        if (hashName != null) {
+            try {
+                hashStrategy = HashStrategy.valueOf(hashName.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                System.out.println("Unknown hash strategy: " + hashName);
+            }
+        }
+        String cacheSize = getOptionValue(args, CACHE_OPTION);
+        if (cacheSize != null) {
+            try {
+                return HashExample.bounded(Integer.parseInt(cacheSize), HashExample.DEFAULT_LOAD_FACTOR,
+                        hashStrategy == null ? HashStrategy.HASH_CODE : hashStrategy);
+            } catch (IllegalArgumentException e) {
+                System.out.println("Bounded table cannot be created: " + e.getMessage());
+            }
+        }
+        for (String arg : args) {
+            if (RESIZABLE_OPTION.equals(arg) || LOAD_OPTION.equals(arg)) {
+                return hashStrategy == null ? HashExample.resizable()
+                        : new HashExample(HashExample.DEFAULT_CAPACITY, HashExample.DEFAULT_LOAD_FACTOR, hashStrategy);
+            }
+        }
+        return hashStrategy == null ? new HashExample() : new HashExample(hashStrategy);
+    }
+    
+    /**
+     * Retrieves the value that follows the command line option
+     * @param args - command line options
+     * @param option - option name
+     * @return option value, or null if the option is not provided
+     */
+    private static String getOptionValue(String[] args, String option) {
+        for (int i = 0; i < args.length - 1; i++) {
+            if (option.equals(args[i])) {
+                return args[i + 1];
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Enables the Bloom filter of the table
+     * @param hashExample - table to enable the filter for
+     * @param rate - false positive rate
+     */
+    private static void enableBloomFilter(HashExample hashExample, String rate) {
+        try {
+            hashExample.setBloomFilter(Double.parseDouble(rate));
+        } catch (IllegalArgumentException e) {
+            System.out.println("Bloom filter cannot be enabled: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Loads the strings from the file and prints the result
+     * @param hashExample - table to load the strings to
+     * @param fileName - name of the file to load
+     */
+    private static void bulkLoad(HashExample hashExample, String fileName) {
+        try {
+            System.out.println(BulkLoader.load(Paths.get(fileName), hashExample));
+        } catch (IOException e) {
+            System.out.println("File cannot be loaded: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Restores the table from the snapshot file
+     * @param file - snapshot file
+     * @return restored table, or null if the file does not exist or cannot be loaded
+     */
+    private static HashExample loadSnapshot(Path file) {
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try {
+            long start = System.nanoTime();
+            HashExample hashExample = HashSnapshot.load(file);
+            System.out.printf("Snapshot loaded: %d strings, %.3f s%n", hashExample.size(), (System.nanoTime() - start) / 1e9);
+            return hashExample;
+        } catch (IOException e) {
+            System.out.println("Snapshot cannot be loaded: " + e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * Saves the table into the snapshot file
+     * @param hashExample - table to save
+     * @param file - snapshot file
+     * @return true if the snapshot is saved
+     */
+    private static boolean saveSnapshot(HashExample hashExample, Path file) {
+        try {
+            long start = System.nanoTime();
+            HashSnapshot.save(hashExample, file);
+            System.out.printf("Snapshot saved: %d strings, %.3f s%n", hashExample.size(), (System.nanoTime() - start) / 1e9);
+            return true;
+        } catch (IOException e) {
+            System.out.println("Snapshot cannot be saved: " + e.getMessage());
+            return false;
+        }
+    }
+    
+    /**
+     * Replays the journal into the table and attaches it
+     * @param hashExample - table to replay into
+     * @param file - journal file
+     * @param delay - maximum time in milliseconds a record waits to become durable, null for the default
+     * @return opened journal, or null if the journal cannot be opened
+     */
+    private static HashJournal openJournal(HashExample hashExample, Path file, String delay) {
+        try {
+            long start = System.nanoTime();
+            int before = hashExample.size();
+            HashJournal journal = HashJournal.open(file, hashExample,
+                    delay == null ? DEFAULT_JOURNAL_DELAY : Long.parseLong(delay));
+            System.out.printf("Journal replayed: %d strings, %.3f s%n", hashExample.size() - before,
+                    (System.nanoTime() - start) / 1e9);
+            return journal;
+        } catch (IOException | IllegalArgumentException e) {
+            System.out.println("Journal cannot be opened: " + e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * Makes the journal durable and closes it
+     * @param journal - journal to close
+     * @param clear - true if the changes are saved into the snapshot and the journal has to be cleared
+     */
+    private static void closeJournal(HashJournal journal, boolean clear) {
+        try {
+            if (clear) {
+                journal.reset();
+            }
+            journal.close();
+        } catch (IOException e) {
+            System.out.println("Journal cannot be closed: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Displays  all menu options
+     */
+    public static void displayMenu() {
+        
+        String menuBuilder = "Please select one of the following:" + System.lineSeparator() +
+                "1: Add a String" + System.lineSeparator() +
+                "2: Search for a String" + System.lineSeparator() +
+                "3: Remove a String" + System.lineSeparator() +
+                "4: Search by prefix" + System.lineSeparator() +
+                "5: Show statistics" + System.lineSeparator() +
+                "6: To Exit" + System.lineSeparator() +
+                ">";
+        System.out.print(menuBuilder);
+    }
+    
+    /**
+     * Displays all menu options of the integer keys
+     */
+    public static void displayIntMenu() {
+        
+        String menuBuilder = "Please select one of the following:" + System.lineSeparator() +
+                "1: Add an Integer" + System.lineSeparator() +
+                "2: Search for an Integer" + System.lineSeparator() +
+                "3: Remove an Integer" + System.lineSeparator() +
+                "4: Show size" + System.lineSeparator() +
+                "5: To Exit" + System.lineSeparator() +
+                ">";
+        System.out.print(menuBuilder);
+    }
+}
@@ -0,0 +1,431 @@
+/*
+ * Author: Svetlana Dukkardt
+ * Student number: 040851905
+ * Lab: 8
+ * Date: 18 October, 2026
+ * Purpose: Provides the hash table that keeps the strings outside of the heap
+ */
+
+package lab8;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Resizable open-addressing table that keeps the strings as UTF-8 bytes in an off-heap arena
+ * of direct {@link ByteBuffer byte buffers}. Each slot is a primitive long that holds
+ * the 32-bit hash of the string and its offset in the arena, so the heap holds no object per string.
+ * <p>
+ * Strings are compared byte by byte with the searched value that is encoded into a reusable buffer,
+ * the stored strings are never materialized. The stored hash skips most of the comparisons
+ * and makes rehashing independent from the arena. The class is not thread-safe.
+ * <p>
+ * A chunk starts at {@link OffHeapHashExample#MIN_CHUNK_SIZE} and is doubled by copying until it reaches
+ * {@link OffHeapHashExample#CHUNK_SIZE}, so a small table reserves little direct memory.
+ * The chunks are released when the table is {@link OffHeapHashExample#clear() cleared} or becomes unreachable
+ * and the buffers are collected.
+ *
+ * @author Svetlana Dukkardt
+ */
+public class OffHeapHashExample {
+    /**
+     * Maximum size of one arena chunk in bytes, an entry never spans two chunks
+     */
+    private static final int CHUNK_SIZE = 1 << 26;
+    /**
+     * Size of a new arena chunk in bytes
+     */
+    private static final int MIN_CHUNK_SIZE = 1 << 12;
+    /**
+     * Maximum number of arena chunks, so the offset plus one fits into 32 bits
+     */
+    private static final int MAX_CHUNKS = 63;
+    /**
+     * Slot value of an empty slot
+     */
+    private static final long EMPTY = 0;
+    /**
+     * Size of the String object with compressed references: header, value reference, hash, coder and flag
+     */
+    private static final int STRING_OBJECT_SIZE = 24;
+    /**
+     * Size of the byte array header with compressed references
+     */
+    private static final int ARRAY_HEADER_SIZE = 16;
+
+    /**
+     * Slots: hash in the high 32 bits, arena offset plus one in the low 32 bits, {@link OffHeapHashExample#EMPTY} if empty
+     */
+    private long[] slots;
+    /**
+     * Arena chunks, the offsets of a chunk start at its index multiplied by {@link OffHeapHashExample#CHUNK_SIZE}
+     */
+    private final List<ByteBuffer> chunks = new ArrayList<>();
+    /**
+     * Write position in the last chunk
+     */
+    private int chunkPosition;
+    /**
+     * Number of off-heap bytes reserved by the arena chunks
+     */
+    private long reservedBytes;
+    /**
+     * Hash function of the table
+     */
+    private final HashStrategy hashStrategy;
+    /**
+     * Maximum ratio of stored elements to the capacity before the table is rehashed
+     */
+    private final float loadFactor;
+    /**
+     * Number of stored elements
+     */
+    private int size;
+    /**
+     * Number of elements when the table has to be rehashed
+     */
+    private int threshold;
+    /**
+     * Number of arena bytes taken by the stored strings
+     */
+    private long arenaBytes;
+    /**
+     * Number of heap bytes the stored strings would take as {@link String} objects
+     */
+    private long stringLayoutBytes;
+    /**
+     * UTF-8 bytes of the value that is being added or searched
+     */
+    private byte[] scratch = new byte[64];
+    /**
+     * Heap buffer view of {@link OffHeapHashExample#scratch} to compare 8 bytes at a time
+     */
+    private ByteBuffer scratchBuffer = ByteBuffer.wrap(scratch);
+
+    /**
+     * Constructor. Creates the table with the default capacity, load factor and hash.
+     */
+    public OffHeapHashExample() {
+        this(HashExample.DEFAULT_CAPACITY, HashExample.DEFAULT_LOAD_FACTOR, HashStrategy.HASH_CODE);
+    }
+
+    /**
+     * Constructor.
+     * @param initialCapacity - expected number of elements
+     * @param loadFactor - maximum ratio of stored elements to the capacity, between 0 and 1
+     * @param hashStrategy - hash function of the table
+     */
+    public OffHeapHashExample(int initialCapacity, float loadFactor, HashStrategy hashStrategy) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal initial capacity: " + initialCapacity);
+        }
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+        }
+        this.hashStrategy = hashStrategy;
+        this.loadFactor = loadFactor;
+        int capacity = HashExample.tableSizeFor((int) Math.min(HashExample.MAXIMUM_CAPACITY,
+                Math.ceil(initialCapacity / (double) loadFactor)));
+        this.slots = new long[capacity];
+        this.threshold = (int) (capacity * loadFactor);
+    }
+
+    /**
+     * Adds a string to the table. The string that is already stored is not added again.
+     * @param value - value to add
+     * @return index where the value is stored, or -1 if the value cannot be added
+     */
+    public int add(String value) {
+        int hash = (int) hashStrategy.hash(value);
+        int length = encode(value);
+        int mask = slots.length - 1;
+        int index = hash & mask;
+        long slot;
+        while ((slot = slots[index]) != EMPTY) {
+            if ((int) (slot >>> 32) == hash && matches(slot, length)) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        if (size >= threshold) {
+            if (slots.length >= HashExample.MAXIMUM_CAPACITY) {
+                return -1;
+            }
+            rehash(slots.length << 1);
+            return add(value);
+        }
+        long offset = append(length);
+        if (offset < 0) {
+            return -1;
+        }
+        slots[index] = ((long) hash << 32) | (offset + 1);
+        size++;
+        stringLayoutBytes += stringLayoutSize(value);
+        return index;
+    }
+
+    /**
+     * Searches for a string in the table.
+     * @param value - value to search
+     * @return index of the value, or -1 if the value is not found
+     */
+    public int search(String value) {
+        int hash = (int) hashStrategy.hash(value);
+        int length = -1;
+        int mask = slots.length - 1;
+        long slot;
+        for (int i = hash & mask; (slot = slots[i]) != EMPTY; i = (i + 1) & mask) {
+            if ((int) (slot >>> 32) == hash) {
+                if (length < 0) {
+                    // encode only when a hash matches
+                    length = encode(value);
+                }
+                if (matches(slot, length)) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Materializes the string that is stored in the slot
+     * @param index - index of the slot
+     * @return stored string, or null if the slot is empty
+     */
+    public String get(int index) {
+        long slot = slots[index];
+        if (slot == EMPTY) {
+            return null;
+        }
+        long offset = (slot & 0xffffffffL) - 1;
+        ByteBuffer chunk = chunks.get((int) (offset / CHUNK_SIZE));
+        int position = (int) (offset % CHUNK_SIZE);
+        int length = chunk.getInt(position);
+        byte[] bytes = new byte[length];
+        chunk.get(position + 4, bytes, 0, length);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return number of stored elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return current capacity of the table
+     */
+    public int capacity() {
+        return slots.length;
+    }
+
+    /**
+     * @return number of off-heap bytes reserved by the arena
+     */
+    public long getArenaCapacity() {
+        return reservedBytes;
+    }
+
+    /**
+     * @return number of arena bytes taken by the stored strings
+     */
+    public long getArenaBytes() {
+        return arenaBytes;
+    }
+
+    /**
+     * @return bytes per stored string: reserved arena bytes plus the slot array
+     */
+    public double getBytesPerKey() {
+        return size == 0 ? 0 : (reservedBytes + (long) slots.length * Long.BYTES) / (double) size;
+    }
+
+    /**
+     * Removes all strings and drops the arena chunks. The table keeps its capacity.
+     */
+    public void clear() {
+        Arrays.fill(slots, EMPTY);
+        chunks.clear();
+        chunkPosition = 0;
+        reservedBytes = 0;
+        arenaBytes = 0;
+        stringLayoutBytes = 0;
+        size = 0;
+    }
+
+    /**
+     * Estimates the bytes per stored string of the {@link HashExample} layout with the same capacity:
+     * {@link String} object, its byte array and a compressed reference per slot.
+     * @return estimated bytes per stored string
+     */
+    public double getStringLayoutBytesPerKey() {
+        return size == 0 ? 0 : (stringLayoutBytes + (long) slots.length * Integer.BYTES) / (double) size;
+    }
+
+    /**
+     * Moves all slots into a new array of the given capacity using the stored hashes.
+     * @param capacity - new capacity, power of two
+     */
+    private void rehash(int capacity) {
+        long[] tmp = new long[capacity];
+        int mask = capacity - 1;
+        for (long slot : slots) {
+            if (slot != EMPTY) {
+                int i = (int) (slot >>> 32) & mask;
+                while (tmp[i] != EMPTY) {
+                    i = (i + 1) & mask;
+                }
+                tmp[i] = slot;
+            }
+        }
+        slots = tmp;
+        threshold = capacity >= HashExample.MAXIMUM_CAPACITY ? HashExample.MAXIMUM_CAPACITY - 1 : (int) (capacity * loadFactor);
+    }
+
+    /**
+     * Compares the string in the arena with the encoded value
+     * @param slot - slot of the stored string
+     * @param length - length of the encoded value in {@link OffHeapHashExample#scratch}
+     * @return true if the bytes are equal
+     */
+    private boolean matches(long slot, int length) {
+        long offset = (slot & 0xffffffffL) - 1;
+        ByteBuffer chunk = chunks.get((int) (offset / CHUNK_SIZE));
+        int position = (int) (offset % CHUNK_SIZE);
+        if (chunk.getInt(position) != length) {
+            return false;
+        }
+        position += 4;
+        int i = 0;
+        for (; i + Long.BYTES <= length; i += Long.BYTES) {
+            if (chunk.getLong(position + i) != scratchBuffer.getLong(i)) {
+                return false;
+            }
+        }
+        for (; i < length; i++) {
+            if (chunk.get(position + i) != scratch[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Copies the encoded value into the arena. Grows the last chunk if it is smaller than
+     * {@link OffHeapHashExample#CHUNK_SIZE}, otherwise allocates a new chunk.
+     * @param length - length of the encoded value in {@link OffHeapHashExample#scratch}
+     * @return offset of the entry in the arena, or -1 if the arena is full
+     */
+    private long append(int length) {
+        int entrySize = 4 + length;
+        if (entrySize > CHUNK_SIZE) {
+            return -1;
+        }
+        int last = chunks.size() - 1;
+        if (last < 0 || chunkPosition + entrySize > chunks.get(last).capacity()) {
+            if (last >= 0 && chunks.get(last).capacity() < CHUNK_SIZE) {
+                chunks.set(last, grow(chunks.get(last), chunkPosition + entrySize));
+            } else {
+                if (chunks.size() >= MAX_CHUNKS) {
+                    return -1;
+                }
+                chunks.add(allocate(entrySize));
+                chunkPosition = 0;
+            }
+        }
+        ByteBuffer chunk = chunks.get(chunks.size() - 1);
+        chunk.putInt(chunkPosition, length);
+        chunk.put(chunkPosition + 4, scratch, 0, length);
+        long offset = (long) (chunks.size() - 1) * CHUNK_SIZE + chunkPosition;
+        chunkPosition += entrySize;
+        arenaBytes += entrySize;
+        return offset;
+    }
+
+    /**
+     * Allocates a new chunk
+     * @param required - number of bytes the chunk has to hold
+     * @return chunk of at least {@link OffHeapHashExample#MIN_CHUNK_SIZE} bytes
+     */
+    private ByteBuffer allocate(int required) {
+        int capacity = Math.min(CHUNK_SIZE, Math.max(MIN_CHUNK_SIZE, Integer.highestOneBit(required - 1) << 1));
+        reservedBytes += capacity;
+        return ByteBuffer.allocateDirect(capacity);
+    }
+
+    /**
+     * Copies the used bytes of the chunk into a chunk of at least double capacity
+     * @param chunk - chunk to grow
+     * @param required - number of bytes the new chunk has to hold
+     * @return new chunk
+     */
+    private ByteBuffer grow(ByteBuffer chunk, int required) {
+        ByteBuffer tmp = allocate(Math.max(required, chunk.capacity() << 1));
+        tmp.put(0, chunk, 0, chunkPosition);
+        reservedBytes -= chunk.capacity();
+        return tmp;
+    }
+
+    /**
+     * Encodes the value as UTF-8 into {@link OffHeapHashExample#scratch}.
+     * Unpaired surrogates are replaced with '?' as {@link String#getBytes(java.nio.charset.Charset)} does.
+     * @param value - value to encode
+     * @return number of encoded bytes
+     */
+    private int encode(String value) {
+        int length = value.length();
+        if (scratch.length < length * 3) {
+            scratch = new byte[Math.max(length * 3, scratch.length << 1)];
+            scratchBuffer = ByteBuffer.wrap(scratch);
+        }
+        byte[] bytes = scratch;
+        int n = 0;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                bytes[n++] = (byte) c;
+            } else if (c < 0x800) {
+                bytes[n++] = (byte) (0xc0 | (c >> 6));
+                bytes[n++] = (byte) (0x80 | (c & 0x3f));
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    bytes[n++] = (byte) (0xf0 | (codePoint >> 18));
+                    bytes[n++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+                    bytes[n++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+                    bytes[n++] = (byte) (0x80 | (codePoint & 0x3f));
+                } else {
+                    bytes[n++] = '?';
+                }
+            } else {
+                bytes[n++] = (byte) (0xe0 | (c >> 12));
+                bytes[n++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+                bytes[n++] = (byte) (0x80 | (c & 0x3f));
+            }
+        }
+        return n;
+    }
+
+    /**
+     * Estimates the heap size of the string: object plus byte array, 8-byte aligned.
+     * Strings of Latin-1 characters take one byte per character, others take two.
+     * @param value - string to estimate
+     * @return size in bytes
+     */
+    private static int stringLayoutSize(String value) {
+        int bytesPerChar = 1;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0xff) {
+                bytesPerChar = 2;
+                break;
+            }
+        }
+        int arraySize = (ARRAY_HEADER_SIZE + value.length() * bytesPerChar + 7) & ~7;
+        return STRING_OBJECT_SIZE + arraySize;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Author: Svetlana Dukkardt
+ * Student number: 040851905
+ * Lab: 8
+ * Date: 18 October, 2026
+ * Purpose: Keeps the strings of the hash table ordered for the prefix queries
+ */
+
+package lab8;
+
+import java.util.Collections;
+import java.util.NavigableSet;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Ordered secondary index of the strings of the {@link HashExample hash table}.
+ * All strings that start with a prefix form a contiguous range of the ordered set,
+ * so a prefix query finds the range bounds in O(log n) and iterates only the matching strings.
+ *
+ * @author Svetlana Dukkardt
+ */
+public class PrefixIndex {
+    /**
+     * Ordered strings
+     */
+    private final NavigableSet<String> strings = new TreeSet<>();
+
+    /**
+     * Adds the string to the index
+     * @param value - string to add
+     */
+    void add(String value) {
+        strings.add(value);
+    }
+
+    /**
+     * Removes the string from the index
+     * @param value - string to remove
+     */
+    void remove(String value) {
+        strings.remove(value);
+    }
+
+    /**
+     * @return number of indexed strings
+     */
+    public int size() {
+        return strings.size();
+    }
+
+    /**
+     * Finds the strings that start with the prefix
+     * @param prefix - prefix to search, an empty prefix matches all strings
+     * @return read-only ordered view of the matching strings, it follows the later changes of the index
+     */
+    public SortedSet<String> withPrefix(String prefix) {
+        String end = successor(prefix);
+        SortedSet<String> range = end == null ? strings.tailSet(prefix, true) : strings.subSet(prefix, true, end, false);
+        return Collections.unmodifiableSortedSet(range);
+    }
+
+    /**
+     * Calculates the smallest string that is greater than all strings starting with the prefix
+     * @param prefix - prefix
+     * @return upper bound of the prefix range, or null if there is no bound
+     */
+    static String successor(String prefix) {
+        int end = prefix.length();
+        // strings that start with the maximum characters have no greater prefix of the same length
+        while (end > 0 && prefix.charAt(end - 1) == Character.MAX_VALUE) {
+            end--;
+        }
+        if (end == 0) {
+            return null;
+        }
+        return prefix.substring(0, end - 1) + (char) (prefix.charAt(end - 1) + 1);
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Author: Svetlana Dukkardt
+ * Student number: 040851905
+ * Lab: 8
+ * Date: 18 October, 2026
+ * Purpose: Provides the open-addressing logic of the hash tables with primitive keys
+ */
+
+package lab8;
+
+/**
+ * Base of the linear probing tables that store primitive keys in a primitive array,
+ * so no object is allocated per key. The subclasses own the key array and implement
+ * the typed lookups, this class keeps the capacity, the resize policy and the deletion.
+ * <p>
+ * The key 0 marks a free slot, so the key 0 itself is stored in the extra slot after the table,
+ * its index is {@link PrimitiveHashExample#capacity()}. A removed key is not replaced with a tombstone:
+ * the following keys of its cluster are shifted back, so the lookups never probe over deleted slots.
+ *
+ * @author Svetlana Dukkardt
+ */
+public abstract class PrimitiveHashExample {
+    /**
+     * Maximum ratio of stored elements to the capacity
+     */
+    private final float loadFactor;
+    /**
+     * Capacity - 1, the capacity is a power of two
+     */
+    int mask;
+    /**
+     * Number of stored elements, including the key 0
+     */
+    int size;
+    /**
+     * True if the key 0 is stored
+     */
+    boolean containsZero;
+    /**
+     * Number of elements when the table has to grow
+     */
+    private int threshold;
+
+    /**
+     * Constructor.
+     * @param initialCapacity - expected number of elements
+     * @param loadFactor - maximum ratio of stored elements to the capacity, between 0 and 1
+     */
+    PrimitiveHashExample(int initialCapacity, float loadFactor) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal initial capacity: " + initialCapacity);
+        }
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+        }
+        this.loadFactor = loadFactor;
+        setCapacity(HashExample.tableSizeFor((int) Math.min(HashExample.MAXIMUM_CAPACITY,
+                Math.ceil(initialCapacity / (double) loadFactor))));
+    }
+
+    /**
+     * @return number of stored elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return current capacity of the table, also the index of the key 0
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Makes room for one more element, grows the table if the threshold is reached
+     * @return false if the table cannot grow anymore
+     */
+    boolean ensureRoom() {
+        if (size < threshold) {
+            return true;
+        }
+        if (capacity() >= HashExample.MAXIMUM_CAPACITY) {
+            return false;
+        }
+        int capacity = capacity() << 1;
+        rehash(capacity);
+        setCapacity(capacity);
+        return true;
+    }
+
+    /**
+     * Frees the slot of a removed key and shifts the following keys of the cluster back,
+     * so every key stays reachable from its home slot without gaps
+     * @param hole - slot of the removed key
+     */
+    void shiftKeys(int hole) {
+        int slot = (hole + 1) & mask;
+        while (!isFree(slot)) {
+            int home = slotHash(slot) & mask;
+            // the key may fill the hole if the hole is between its home slot and its current slot
+            if (((slot - home) & mask) >= ((slot - hole) & mask)) {
+                moveKey(slot, hole);
+                hole = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        freeSlot(hole);
+    }
+
+    /**
+     * Mixes the bits of the key, the same finalizer as {@link HashStrategy#HASH_CODE}
+     * @param key - key
+     * @return hash of the key
+     */
+    static int mix(int key) {
+        key ^= key >>> 16;
+        key *= 0x85ebca6b;
+        key ^= key >>> 13;
+        return key;
+    }
+
+    /**
+     * Updates the capacity and the threshold
+     * @param capacity - new capacity, power of two
+     */
+    private void setCapacity(int capacity) {
+        mask = capacity - 1;
+        threshold = capacity >= HashExample.MAXIMUM_CAPACITY ? capacity - 1 : (int) (capacity * loadFactor);
+    }
+
+    /**
+     * Moves all keys into a new key array of the given capacity, {@link PrimitiveHashExample#mask} is not updated yet
+     * @param capacity - new capacity, power of two
+     */
+    abstract void rehash(int capacity);
+
+    /**
+     * @param slot - slot of the table
+     * @return true if the slot holds no key
+     */
+    abstract boolean isFree(int slot);
+
+    /**
+     * @param slot - slot that holds a key
+     * @return mixed hash of the key in the slot
+     */
+    abstract int slotHash(int slot);
+
+    /**
+     * Moves the key of one slot into another
+     * @param from - slot that holds the key
+     * @param to - slot to move the key to
+     */
+    abstract void moveKey(int from, int to);
+
+    /**
+     * Marks the slot as free
+     * @param slot - slot of the table
+     */
+    abstract void freeSlot(int slot);
+}
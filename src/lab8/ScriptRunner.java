@@ -0,0 +1,338 @@
+/*
+ * Author: Svetlana Dukkardt
+ * Student number: 040851905
+ * Lab: 8
+ * Date: 18 October, 2026
+ * Purpose: Replays a file of commands against the hash table without user interaction
+ */
+
+package lab8;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Replays a file of commands against the {@link HashExample hash table}, one command per line,
+ * with the same commands and responses as {@link HashServer}:
+ * <pre>
+ * ADD key     - responds with the index of the key, or -1 if it cannot be added
+ * SEARCH key  - responds with the index of the key, or -1 if it is not found
+ * REMOVE key  - responds with 1 if the key was removed, 0 if it is not found
+ * </pre>
+ * Empty lines are skipped, any other line is answered with "ERR unknown command".
+ * No prompt is printed, the responses are collected in a {@link ScriptRunner#OUTPUT_BUFFER_SIZE} buffer
+ * and written in large chunks. The time of every table operation is recorded per command type
+ * into a {@link Latencies histogram}, the reading and writing of the lines is not included.
+ *
+ * @author Svetlana Dukkardt
+ */
+public class ScriptRunner {
+    /**
+     * Size of the output buffer in characters
+     */
+    private static final int OUTPUT_BUFFER_SIZE = 1 << 20;
+    /**
+     * Response to an unknown command
+     */
+    private static final String UNKNOWN_COMMAND = "ERR unknown command";
+    /**
+     * Percentiles printed in the summary
+     */
+    private static final double[] PERCENTILES = {50, 99, 99.9};
+
+    /**
+     * Commands of the script
+     */
+    public enum Command {
+        /**
+         * Adds the key
+         */
+        ADD("ADD "),
+        /**
+         * Searches for the key
+         */
+        SEARCH("SEARCH "),
+        /**
+         * Removes the key
+         */
+        REMOVE("REMOVE ");
+
+        /**
+         * Command with the separating space
+         */
+        private final String prefix;
+
+        /**
+         * Constructor.
+         * @param prefix - command with the separating space
+         */
+        Command(String prefix) {
+            this.prefix = prefix;
+        }
+    }
+
+    /**
+     * Histogram of latencies in nanoseconds with a fixed number of buckets: the values below 16 have
+     * their own buckets, every higher power of two is split into 16 buckets, so a percentile is reported
+     * with at most 1/16 relative error and the memory does not depend on the number of commands
+     */
+    public static class Latencies {
+        /**
+         * Number of bits of a value that select the bucket within its power of two
+         */
+        private static final int SUB_BUCKET_BITS = 4;
+        /**
+         * Number of buckets within a power of two
+         */
+        private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+        /**
+         * Number of values per bucket
+         */
+        private final long[] counts = new long[(Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS];
+        /**
+         * Number of recorded values
+         */
+        private long count;
+        /**
+         * Maximum recorded value
+         */
+        private long max;
+
+        /**
+         * Records a value
+         * @param nanos - latency in nanoseconds, not negative
+         */
+        void record(long nanos) {
+            counts[bucket(nanos)]++;
+            count++;
+            max = Math.max(max, nanos);
+        }
+
+        /**
+         * @return number of recorded values
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * @return maximum recorded value in nanoseconds
+         */
+        public long getMax() {
+            return max;
+        }
+
+        /**
+         * Finds the value that is not less than the given percentage of the recorded values
+         * @param percentile - percentage between 0 and 100
+         * @return upper bound of the bucket of the value in nanoseconds, 0 if nothing is recorded
+         */
+        public long getPercentile(double percentile) {
+            long target = Math.max(1, (long) Math.ceil(count * percentile / 100));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= target) {
+                    return Math.min(upperBound(i), max);
+                }
+            }
+            return max;
+        }
+
+        /**
+         * @param nanos - value
+         * @return index of the bucket of the value
+         */
+        private static int bucket(long nanos) {
+            if (nanos < SUB_BUCKETS) {
+                return (int) nanos;
+            }
+            int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(nanos);
+            int shift = exponent - SUB_BUCKET_BITS;
+            return ((shift + 1) << SUB_BUCKET_BITS) + (int) ((nanos >>> shift) & (SUB_BUCKETS - 1));
+        }
+
+        /**
+         * @param bucket - index of the bucket
+         * @return greatest value of the bucket
+         */
+        private static long upperBound(int bucket) {
+            if (bucket < SUB_BUCKETS) {
+                return bucket;
+            }
+            int shift = (bucket >> SUB_BUCKET_BITS) - 1;
+            long lower = (long) (SUB_BUCKETS + (bucket & (SUB_BUCKETS - 1))) << shift;
+            return lower + (1L << shift) - 1;
+        }
+    }
+
+    /**
+     * Result of the replay
+     */
+    public static class Result {
+        /**
+         * Latencies per command, indexed by {@link Command#ordinal()}
+         */
+        private final Latencies[] latencies;
+        /**
+         * Number of unknown commands
+         */
+        private final long errors;
+        /**
+         * Time spent on the whole replay, in nanoseconds
+         */
+        private final long elapsedNanos;
+
+        /**
+         * Constructor.
+         * @param latencies - latencies per command
+         * @param errors - number of unknown commands
+         * @param elapsedNanos - time spent on the whole replay, in nanoseconds
+         */
+        Result(Latencies[] latencies, long errors, long elapsedNanos) {
+            this.latencies = latencies;
+            this.errors = errors;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        /**
+         * @param command - command type
+         * @return latencies of the command
+         */
+        public Latencies getLatencies(Command command) {
+            return latencies[command.ordinal()];
+        }
+
+        /**
+         * @return number of unknown commands
+         */
+        public long getErrors() {
+            return errors;
+        }
+
+        /**
+         * @return number of executed commands, the unknown ones included
+         */
+        public long getCommands() {
+            long commands = errors;
+            for (Latencies commandLatencies : latencies) {
+                commands += commandLatencies.getCount();
+            }
+            return commands;
+        }
+
+        /**
+         * @return time spent on the whole replay, in nanoseconds
+         */
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder(String.format("Commands: %d, errors: %d, time: %.3f s, %.0f commands/sec",
+                    getCommands(), errors, elapsedNanos / 1e9, elapsedNanos == 0 ? 0 : getCommands() * 1e9 / elapsedNanos));
+            builder.append(System.lineSeparator()).append(String.format("%-8s %12s", "command", "count"));
+            for (double percentile : PERCENTILES) {
+                builder.append(String.format(" %12s", "p" + percentile + " us"));
+            }
+            builder.append(String.format(" %12s", "max us"));
+            for (Command command : Command.values()) {
+                Latencies commandLatencies = getLatencies(command);
+                if (commandLatencies.getCount() == 0) {
+                    continue;
+                }
+                builder.append(System.lineSeparator())
+                        .append(String.format("%-8s %12d", command, commandLatencies.getCount()));
+                for (double percentile : PERCENTILES) {
+                    builder.append(String.format(" %12.3f", commandLatencies.getPercentile(percentile) / 1e3));
+                }
+                builder.append(String.format(" %12.3f", commandLatencies.getMax() / 1e3));
+            }
+            return builder.toString();
+        }
+    }
+
+    /**
+     * Constructor.
+     */
+    private ScriptRunner() {}
+
+    /**
+     * Executes all commands of the file and writes one response line per command
+     * @param script - file of commands, UTF-8, one command per line
+     * @param hashExample - table to execute the commands on
+     * @param out - stream for the responses, flushed but not closed
+     * @return result of the replay
+     * @throws IOException in case of the file cannot be read or the responses cannot be written
+     */
+    public static Result run(Path script, HashExample hashExample, OutputStream out) throws IOException {
+        long start = System.nanoTime();
+        Latencies[] latencies = new Latencies[Command.values().length];
+        for (int i = 0; i < latencies.length; i++) {
+            latencies[i] = new Latencies();
+        }
+        long errors = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), OUTPUT_BUFFER_SIZE);
+        try (InputStream in = Files.newInputStream(script)) {
+            ConsoleReader reader = new ConsoleReader(in);
+            while (reader.readLine()) {
+                String line = reader.getLine();
+                if (line.isEmpty()) {
+                    continue;
+                }
+                Command command = parse(line);
+                if (command == null) {
+                    errors++;
+                    writer.write(UNKNOWN_COMMAND);
+                    writer.write('\n');
+                    continue;
+                }
+                String key = line.substring(command.prefix.length());
+                long commandStart = System.nanoTime();
+                int response;
+                switch (command) {
+                    case ADD:
+                        response = hashExample.add(key);
+                        break;
+                    case SEARCH:
+                        response = hashExample.search(key);
+                        break;
+                    default:
+                        response = hashExample.remove(key) ? 1 : 0;
+                        break;
+                }
+                latencies[command.ordinal()].record(System.nanoTime() - commandStart);
+                writer.write(Integer.toString(response));
+                writer.write('\n');
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+        return new Result(latencies, errors, System.nanoTime() - start);
+    }
+
+    /**
+     * Finds the command of the line
+     * @param line - line of the script
+     * @return command, or null if the line is not a known command
+     */
+    private static Command parse(String line) {
+        for (Command command : Command.values()) {
+            if (line.startsWith(command.prefix)) {
+                return command;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,331 @@
+/*
+ * Author: Svetlana Dukkardt
+ * Student number: 040851905
+ * Lab: 8
+ * Date: 18 October, 2026
+ * Purpose: Provides the hash table that probes groups of control bytes
+ */
+
+package lab8;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * Open-addressing table in the SwissTable layout: next to the slots there is an array of control bytes,
+ * one per slot, that holds 7 bits of the hash of the stored string or marks the slot as empty or deleted.
+ * <p>
+ * The probing starts at the slot of the low bits of the 32-bit hash, the tag is its 7 highest bits,
+ * so the two do not share bits up to 2<sup>25</sup> slots. {@link HashStrategy#TWO_CHAR} is rejected:
+ * its values are below 100, every tag would be 0 and every probed slot would be compared.
+ * <p>
+ * A lookup reads a group of 8 control bytes as one long and finds the bytes that match the 7-bit tag
+ * with bitwise arithmetic (SWAR), so {@link String#equals(Object)} is called only for the slots whose tag matches,
+ * about one in 128 of the probed non-matching slots. The probing stops at the first group that has an empty slot.
+ * The groups are probed with growing steps of 8, 16, 24, ... slots, which visits every group of the power-of-two table.
+ * <p>
+ * The control array is 7 bytes longer than the table and repeats its first 7 bytes at the end,
+ * so a group that starts near the end is read without wrapping. The class is not thread-safe.
+ *
+ * @author Svetlana Dukkardt
+ */
+public class SwissHashExample {
+    /**
+     * Number of control bytes in a group
+     */
+    private static final int GROUP_WIDTH = 8;
+    /**
+     * Control byte of an empty slot
+     */
+    static final byte EMPTY = (byte) 0x80;
+    /**
+     * Control byte of a removed slot
+     */
+    static final byte DELETED = (byte) 0xFE;
+    /**
+     * Lowest bit of every byte of a group
+     */
+    private static final long LSBS = 0x0101010101010101L;
+    /**
+     * Highest bit of every byte of a group
+     */
+    private static final long MSBS = 0x8080808080808080L;
+    /**
+     * Maximum ratio of used slots to the capacity, 7/8
+     */
+    private static final float MAX_LOAD_FACTOR = 0.875f;
+    /**
+     * Reads 8 control bytes as a little-endian long, so the byte at the lowest index is the lowest byte
+     */
+    private static final VarHandle GROUP = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    /**
+     * Hash function of the table
+     */
+    private final HashStrategy hashStrategy;
+    /**
+     * Control bytes of the slots followed by the copy of the first {@link SwissHashExample#GROUP_WIDTH} - 1 bytes
+     */
+    private byte[] control;
+    /**
+     * Slots
+     */
+    private String[] dataItems;
+    /**
+     * Number of stored elements
+     */
+    private int size;
+    /**
+     * Number of deleted slots
+     */
+    private int deleted;
+    /**
+     * Number of used slots when the table has to be rehashed
+     */
+    private int threshold;
+
+    /**
+     * Constructor. Creates the table with the default capacity and hash.
+     */
+    public SwissHashExample() {
+        this(HashExample.DEFAULT_CAPACITY, HashStrategy.HASH_CODE);
+    }
+
+    /**
+     * Constructor.
+     * @param initialCapacity - expected number of elements
+     * @param hashStrategy - hash function of the table
+     */
+    public SwissHashExample(int initialCapacity, HashStrategy hashStrategy) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal initial capacity: " + initialCapacity);
+        }
+        if (hashStrategy == HashStrategy.TWO_CHAR) {
+            throw new IllegalArgumentException("Hash strategy has no high bits for the tags: " + hashStrategy);
+        }
+        this.hashStrategy = hashStrategy;
+        allocate(Math.max(GROUP_WIDTH, HashExample.tableSizeFor((int) Math.min(HashExample.MAXIMUM_CAPACITY,
+                Math.ceil(initialCapacity / (double) MAX_LOAD_FACTOR)))));
+    }
+
+    /**
+     * Adds a string to the table. The string that is already stored is not added again.
+     * @param value - value to add
+     * @return index where the value is stored, or -1 if the value cannot be added
+     */
+    public int add(String value) {
+        int hash = (int) hashStrategy.hash(value);
+        int index = find(value, hash);
+        if (index >= 0) {
+            return index;
+        }
+        if (size + deleted >= threshold) {
+            if (deleted >= size / 2) {
+                // mostly deleted slots, rehashing at the same capacity drops them
+                rehash(dataItems.length);
+            } else if (dataItems.length >= HashExample.MAXIMUM_CAPACITY) {
+                return -1;
+            } else {
+                rehash(dataItems.length << 1);
+            }
+        }
+        index = findInsertSlot(hash);
+        if (control[index] == DELETED) {
+            deleted--;
+        }
+        setControl(index, tag(hash));
+        dataItems[index] = value;
+        size++;
+        return index;
+    }
+
+    /**
+     * Searches for a string in the table.
+     * @param value - value to search
+     * @return index of the value, or -1 if the value is not found
+     */
+    public int search(String value) {
+        return find(value, (int) hashStrategy.hash(value));
+    }
+
+    /**
+     * Removes a string from the table
+     * @param value - value to remove
+     * @return true if the value was stored
+     */
+    public boolean remove(String value) {
+        int index = find(value, (int) hashStrategy.hash(value));
+        if (index < 0) {
+            return false;
+        }
+        setControl(index, DELETED);
+        dataItems[index] = null;
+        size--;
+        deleted++;
+        return true;
+    }
+
+    /**
+     * @return number of stored elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return current capacity of the table
+     */
+    public int capacity() {
+        return dataItems.length;
+    }
+
+    /**
+     * Counts the strings that {@link SwissHashExample#search(String)} compares with the value
+     * @param value - value to search
+     * @return number of {@link String#equals(Object)} calls
+     */
+    int compareCount(String value) {
+        int hash = (int) hashStrategy.hash(value);
+        int mask = dataItems.length - 1;
+        long tag = LSBS * tag(hash);
+        int compares = 0;
+        int position = hash & mask;
+        for (int step = GROUP_WIDTH; ; step += GROUP_WIDTH) {
+            long group = (long) GROUP.get(control, position);
+            for (long matches = matchTag(group, tag); matches != 0; matches &= matches - 1) {
+                compares++;
+                if (value.equals(dataItems[(position + (Long.numberOfTrailingZeros(matches) >>> 3)) & mask])) {
+                    return compares;
+                }
+            }
+            if (matchEmpty(group) != 0) {
+                return compares;
+            }
+            position = (position + step) & mask;
+        }
+    }
+
+    /**
+     * Finds the slot of the value
+     * @param value - value to search
+     * @param hash - hash of the value
+     * @return index of the value, or -1 if the value is not found
+     */
+    private int find(String value, int hash) {
+        int mask = dataItems.length - 1;
+        long tag = LSBS * tag(hash);
+        int position = hash & mask;
+        for (int step = GROUP_WIDTH; ; step += GROUP_WIDTH) {
+            long group = (long) GROUP.get(control, position);
+            for (long matches = matchTag(group, tag); matches != 0; matches &= matches - 1) {
+                int index = (position + (Long.numberOfTrailingZeros(matches) >>> 3)) & mask;
+                if (value.equals(dataItems[index])) {
+                    return index;
+                }
+            }
+            if (matchEmpty(group) != 0) {
+                return -1;
+            }
+            position = (position + step) & mask;
+        }
+    }
+
+    /**
+     * Finds the first empty or deleted slot on the probe sequence of the hash
+     * @param hash - hash of the value to insert
+     * @return index of the slot
+     */
+    private int findInsertSlot(int hash) {
+        int mask = dataItems.length - 1;
+        int position = hash & mask;
+        for (int step = GROUP_WIDTH; ; step += GROUP_WIDTH) {
+            long free = matchEmptyOrDeleted((long) GROUP.get(control, position));
+            if (free != 0) {
+                return (position + (Long.numberOfTrailingZeros(free) >>> 3)) & mask;
+            }
+            position = (position + step) & mask;
+        }
+    }
+
+    /**
+     * Moves all elements into new arrays of the given capacity
+     * @param capacity - new capacity, power of two
+     */
+    private void rehash(int capacity) {
+        String[] old = dataItems;
+        allocate(capacity);
+        for (String item : old) {
+            if (item != null) {
+                int hash = (int) hashStrategy.hash(item);
+                int index = findInsertSlot(hash);
+                setControl(index, tag(hash));
+                dataItems[index] = item;
+            }
+        }
+        deleted = 0;
+    }
+
+    /**
+     * Creates empty arrays of the given capacity
+     * @param capacity - capacity, power of two not less than {@link SwissHashExample#GROUP_WIDTH}
+     */
+    private void allocate(int capacity) {
+        dataItems = new String[capacity];
+        control = new byte[capacity + GROUP_WIDTH - 1];
+        Arrays.fill(control, EMPTY);
+        threshold = capacity >= HashExample.MAXIMUM_CAPACITY ? capacity - 1 : (int) (capacity * MAX_LOAD_FACTOR);
+    }
+
+    /**
+     * Sets the control byte of the slot and its copy at the end of the array
+     * @param index - index of the slot
+     * @param value - control byte
+     */
+    private void setControl(int index, byte value) {
+        control[index] = value;
+        if (index < GROUP_WIDTH - 1) {
+            control[dataItems.length + index] = value;
+        }
+    }
+
+    /**
+     * @param hash - hash of the value
+     * @return control byte of the stored value, the 7 highest bits of the hash
+     */
+    private static byte tag(int hash) {
+        return (byte) (hash >>> 25);
+    }
+
+    /**
+     * Finds the bytes of the group that are equal to the tag. May report false matches
+     * for the bytes that follow a true match, which are filtered out by the comparison of the strings.
+     * @param group - control bytes
+     * @param tag - tag repeated in every byte
+     * @return highest bit of every matching byte
+     */
+    static long matchTag(long group, long tag) {
+        long x = group ^ tag;
+        return (x - LSBS) & ~x & MSBS;
+    }
+
+    /**
+     * Finds the empty bytes of the group: only {@link SwissHashExample#EMPTY} has the highest bit set
+     * and the bit 1 clear
+     * @param group - control bytes
+     * @return highest bit of every empty byte
+     */
+    static long matchEmpty(long group) {
+        return group & ~(group << 6) & MSBS;
+    }
+
+    /**
+     * Finds the empty and deleted bytes of the group, the only ones with the highest bit set
+     * @param group - control bytes
+     * @return highest bit of every empty or deleted byte
+     */
+    static long matchEmptyOrDeleted(long group) {
+        return group & MSBS;
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Author: Svetlana Dukkardt
+ * Student number: 040851905
+ * Lab: 8
+ * Date: 18 October, 2026
+ * Purpose: Requests the values of the menu options and prints the results of the table operations
+ */
+
+package lab8;
+
+import java.util.SortedSet;
+
+/**
+ * Menu options of {@link Lab8}: each one requests the value from the user, calls the table
+ * and prints the result, so the tables themselves do no console input and output.
+ *
+ * @author Svetlana Dukkardt
+ */
+final class TableMenu {
+    /**
+     * Number of strings the prefix search prints
+     */
+    private static final int PREFIX_RESULTS_SHOWN = 20;
+
+    /**
+     * Constructor.
+     */
+    private TableMenu() {}
+
+    /**
+     * Requests and adds a new String to the table
+     * @param hashExample - table to add to
+     * @param reader - reader of user data
+     */
+    static void addString(HashExample hashExample, ConsoleReader reader) {
+        String userInput = InputUtils.getString(reader, "Enter the string value to add: ");
+        if (hashExample.add(userInput) < 0) {
+            System.out.println("String cannot be added");
+        }
+    }
+
+    /**
+     * Requests a String and prints its index in the table
+     * @param hashExample - table to search in
+     * @param reader - reader of user data
+     */
+    static void searchString(HashExample hashExample, ConsoleReader reader) {
+        String userInput = InputUtils.getString(reader, "Enter the string value to search: ");
+        int index = hashExample.search(userInput);
+        if (index >= 0) {
+            System.out.println("String Index: " + index);
+            return;
+        }
+        System.out.println("String is not found");
+    }
+
+    /**
+     * Requests and removes a String from the table
+     * @param hashExample - table to remove from
+     * @param reader - reader of user data
+     */
+    static void removeString(HashExample hashExample, ConsoleReader reader) {
+        String userInput = InputUtils.getString(reader, "Enter the string value to remove: ");
+        if (hashExample.remove(userInput)) {
+            System.out.println("String is removed");
+            return;
+        }
+        System.out.println("String is not found");
+    }
+
+    /**
+     * Requests a prefix and prints the number of strings that start with it
+     * and the first {@link TableMenu#PREFIX_RESULTS_SHOWN} of them
+     * @param hashExample - table to search in
+     * @param reader - reader of user data
+     */
+    static void searchPrefix(HashExample hashExample, ConsoleReader reader) {
+        SortedSet<String> results = hashExample.searchPrefix(InputUtils.getString(reader, "Enter the prefix to search: "));
+        System.out.println("Strings found: " + results.size());
+        int shown = 0;
+        for (String result : results) {
+            if (shown++ == PREFIX_RESULTS_SHOWN) {
+                System.out.println("...");
+                break;
+            }
+            System.out.println(result);
+        }
+    }
+
+    /**
+     * Requests and adds a new key to the table
+     * @param intHashExample - table to add to
+     * @param reader - reader of user data
+     */
+    static void addKey(IntHashExample intHashExample, ConsoleReader reader) {
+        if (intHashExample.add(InputUtils.getInt(reader, "Enter the integer value to add: ", "Invalid integer")) < 0) {
+            System.out.println("Integer cannot be added");
+        }
+    }
+
+    /**
+     * Requests a key and prints its index
+     * @param intHashExample - table to search in
+     * @param reader - reader of user data
+     */
+    static void searchKey(IntHashExample intHashExample, ConsoleReader reader) {
+        int index = intHashExample.search(InputUtils.getInt(reader, "Enter the integer value to search: ", "Invalid integer"));
+        if (index >= 0) {
+            System.out.println("Integer Index: " + index);
+            return;
+        }
+        System.out.println("Integer is not found");
+    }
+
+    /**
+     * Requests and removes a key from the table
+     * @param intHashExample - table to remove from
+     * @param reader - reader of user data
+     */
+    static void removeKey(IntHashExample intHashExample, ConsoleReader reader) {
+        if (intHashExample.remove(InputUtils.getInt(reader, "Enter the integer value to remove: ", "Invalid integer"))) {
+            System.out.println("Integer is removed");
+            return;
+        }
+        System.out.println("Integer is not found");
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Author: Svetlana Dukkardt
+ * Student number: 040851905
+ * Lab: 8
+ * Date: 18 October, 2026
+ * Purpose: Checks that concurrent inserts do not lose or duplicate keys
+ */
+
+package lab8;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Stress test of {@link ConcurrentHashExample}.
+ * @author Svetlana Dukkardt
+ */
+class ConcurrentHashExampleTest {
+    /**
+     * Number of inserting threads
+     */
+    private static final int THREADS = 8;
+    /**
+     * Number of distinct keys
+     */
+    private static final int KEYS = 200_000;
+
+    /**
+     * Every thread inserts an overlapping half of the keys into a small table,
+     * so the inserts race with each other and with several resizes.
+     */
+    @Test
+    void concurrentInsertsKeepEveryKeyAcrossResizes() throws Exception {
+        ConcurrentHashExample table = new ConcurrentHashExample(0, 0.5f);
+        int initialCapacity = table.capacity();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int first = t * (KEYS / THREADS);
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < KEYS / 2; i++) {
+                        int key = (first + i) % KEYS;
+                        assertTrue(table.add("key" + key) >= 0);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertTrue(table.capacity() >= initialCapacity << 4, "table was not resized several times");
+        assertEquals(KEYS, table.size());
+        for (int key = 0; key < KEYS; key++) {
+            assertTrue(table.search("key" + key) >= 0, "key" + key + " is lost");
+        }
+    }
+}
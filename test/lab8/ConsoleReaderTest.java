@@ -0,0 +1,152 @@
+/*
+ * Author: Svetlana Dukkardt
+ * Student number: 040851905
+ * Lab: 8
+ * Date: 18 October, 2026
+ * Purpose: Checks that the console reader parses numbers as the JDK parsers do
+ */
+
+package lab8;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link ConsoleReader}.
+ * @author Svetlana Dukkardt
+ */
+class ConsoleReaderTest {
+    /**
+     * Lines parsed as integers
+     */
+    private static final String[] INT_LINES = {
+            "0", "7", "-7", "+7", "007", "-0", "2147483647", "-2147483648", "2147483648", "-2147483649",
+            "99999999999", "", "-", "+", "1 ", " 1", "1.0", "1e3", "0x10", "12a", "--1", "+-1", "١"
+    };
+    /**
+     * Lines parsed as floats
+     */
+    private static final String[] FLOAT_LINES = {
+            "0", "-0", "+0.0", "1", "1.5", ".5", "5.", "-.5", "0.1", "3.4028235e38", "3.4028236e38", "1e39",
+            "1.4e-45", "1e-46", "16777217", "123456789012345678901234567890", "0.30000000000000004",
+            "1e10", "1e11", "1E-10", "2.5e+3", "7f", "7.5D", " 42 ", "\t1.25\t", "NaN", "-NaN", "+Infinity",
+            "-Infinity", "0x1p3", "-0x1.8p-1", "0X10P0f", "", ".", "-", "e5", "1e", "1e+", "1.2.3", "1,5",
+            "infinity", "nan", "1 2", "0x", "1ff", "١"
+    };
+
+    @Test
+    void parseIntMatchesIntegerParseInt() {
+        ConsoleReader reader = readerOf(INT_LINES);
+        for (String line : INT_LINES) {
+            assertTrue(reader.readLine());
+            Integer expected = parseIntOrNull(line);
+            assertEquals(expected != null, reader.parseInt(), line);
+            if (expected != null) {
+                assertEquals(expected.intValue(), reader.getIntValue(), line);
+            }
+        }
+        assertFalse(reader.readLine());
+    }
+
+    @Test
+    void parseFloatMatchesFloatParseFloat() {
+        ConsoleReader reader = readerOf(FLOAT_LINES);
+        for (String line : FLOAT_LINES) {
+            assertTrue(reader.readLine());
+            assertFloatParsed(reader, line);
+        }
+        assertFalse(reader.readLine());
+    }
+
+    @Test
+    void parseFloatMatchesFloatParseFloatOnRandomDecimals() {
+        Random random = new Random(7);
+        String[] lines = new String[10_000];
+        for (int i = 0; i < lines.length; i++) {
+            String digits = Long.toString(random.nextInt(100_000_000));
+            int point = random.nextInt(digits.length() + 1);
+            lines[i] = (random.nextBoolean() ? "-" : "") + digits.substring(0, point) + "." + digits.substring(point)
+                    + (random.nextBoolean() ? "e" + (random.nextInt(80) - 40) : "");
+        }
+        ConsoleReader reader = readerOf(lines);
+        for (String line : lines) {
+            assertTrue(reader.readLine());
+            assertFloatParsed(reader, line);
+        }
+    }
+
+    @Test
+    void readLineHandlesSeparatorsAndLongLines() {
+        String longLine = "x".repeat(200_000);
+        ConsoleReader reader = new ConsoleReader(new ByteArrayInputStream(
+                ("a\r\n\n" + longLine + "\nlast").getBytes(StandardCharsets.UTF_8)));
+        assertTrue(reader.readLine());
+        assertEquals("a", reader.getLine());
+        assertTrue(reader.readLine());
+        assertEquals("", reader.getLine());
+        assertTrue(reader.readLine());
+        assertEquals(longLine, reader.getLine());
+        assertTrue(reader.readLine());
+        assertEquals("last", reader.getLine());
+        assertFalse(reader.readLine());
+    }
+
+    @Test
+    void getDateRetriesUntilValidDate() {
+        ConsoleReader reader = readerOf(new String[] {"2020-13-01", "yesterday", "2020-04-04"});
+        assertEquals(LocalDate.of(2020, 4, 4), InputUtils.getDate(reader, "", value -> { }, "Invalid date"));
+    }
+
+    /**
+     * Checks the parsed float against {@link Float#parseFloat(String)}, bit for bit
+     * @param reader - reader positioned at the line
+     * @param line - the line
+     */
+    private static void assertFloatParsed(ConsoleReader reader, String line) {
+        Float expected = parseFloatOrNull(line);
+        assertEquals(expected != null, reader.parseFloat(), line);
+        if (expected != null) {
+            assertEquals(Float.floatToIntBits(expected), Float.floatToIntBits(reader.getFloatValue()), line);
+        }
+    }
+
+    /**
+     * @param lines - lines of the input
+     * @return reader of the lines
+     */
+    private static ConsoleReader readerOf(String[] lines) {
+        return new ConsoleReader(new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * @param line - line to parse
+     * @return parsed value, or null if the line is not a valid integer
+     */
+    private static Integer parseIntOrNull(String line) {
+        try {
+            return Integer.parseInt(line);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @param line - line to parse
+     * @return parsed value, or null if the line is not a valid number
+     */
+    private static Float parseFloatOrNull(String line) {
+        try {
+            return Float.parseFloat(line);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
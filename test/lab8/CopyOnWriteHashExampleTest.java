@@ -0,0 +1,159 @@
+/*
+ * Author: Svetlana Dukkardt
+ * Student number: 040851905
+ * Lab: 8
+ * Date: 18 October, 2026
+ * Purpose: Checks that the readers and the batch lookups of the copy-on-write table are not affected by the resizes
+ */
+
+package lab8;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link CopyOnWriteHashExample}.
+ * @author Svetlana Dukkardt
+ */
+class CopyOnWriteHashExampleTest {
+    /**
+     * Number of keys stored before the writer starts, the reader searches for them
+     */
+    private static final int INITIAL_SIZE = 10_000;
+    /**
+     * Number of keys the writer adds
+     */
+    private static final int ADDED = 300_000;
+    /**
+     * Number of keys the writer adds at once
+     */
+    private static final int BATCH_SIZE = 1_000;
+
+    /**
+     * A reader searches for the stored keys while a writer grows the table through several doublings.
+     * Every lookup has to find its key, and the reader must never block on a monitor,
+     * which is what waiting for the writer lock would show.
+     */
+    @Test
+    void readersFindEveryKeyWithoutBlockingDuringResizes() throws Exception {
+        CopyOnWriteHashExample table = new CopyOnWriteHashExample(INITIAL_SIZE, HashExample.DEFAULT_LOAD_FACTOR);
+        for (int i = 0; i < INITIAL_SIZE; i++) {
+            table.add("initial" + i);
+        }
+        int initialCapacity = table.capacity();
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        AtomicBoolean writing = new AtomicBoolean(true);
+        AtomicLong lookups = new AtomicLong();
+        AtomicLong lost = new AtomicLong();
+        AtomicLong blocked = new AtomicLong();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            try {
+                ThreadInfo before = threads.getThreadInfo(Thread.currentThread().getId());
+                long count = 0;
+                while (writing.get()) {
+                    if (table.search("initial" + (count % INITIAL_SIZE)) < 0) {
+                        lost.incrementAndGet();
+                    }
+                    count++;
+                }
+                lookups.set(count);
+                ThreadInfo after = threads.getThreadInfo(Thread.currentThread().getId());
+                blocked.set(after.getBlockedCount() - before.getBlockedCount());
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+        reader.start();
+        try {
+            String[] batch = new String[BATCH_SIZE];
+            for (int added = 0; added < ADDED; added += BATCH_SIZE) {
+                for (int i = 0; i < BATCH_SIZE; i++) {
+                    batch[i] = "added" + (added + i);
+                }
+                table.addAll(batch);
+                // one key per batch is added alone, so the reader also races with the in-place stores
+                table.add("single" + added);
+                Thread.yield();
+            }
+        } finally {
+            writing.set(false);
+            reader.join();
+        }
+
+        if (failure.get() != null) {
+            throw new AssertionError(failure.get());
+        }
+        assertTrue(table.capacity() >= initialCapacity << 3, "table was not resized several times");
+        assertTrue(lookups.get() > 0);
+        assertEquals(0, lost.get(), "lookups missed a stored key");
+        assertEquals(0, blocked.get(), "reader blocked on a monitor");
+        assertEquals(INITIAL_SIZE + ADDED + ADDED / BATCH_SIZE, table.size());
+    }
+
+    @Test
+    void batchSearchMatchesSearchOfEveryKey() {
+        CopyOnWriteHashExample table = new CopyOnWriteHashExample();
+        for (int i = 0; i < 5_000; i++) {
+            table.add("key" + i);
+        }
+        for (int i = 0; i < 5_000; i += 3) {
+            table.remove("key" + i);
+        }
+        String[] keys = new String[4 * HashExample.BATCH_SPLIT_THRESHOLD + 1];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = "key" + (i * 7 % 10_000);
+        }
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            int[] indexes = table.searchAll(keys, pool);
+            int[] expected = new int[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                expected[i] = table.search(keys[i]);
+            }
+            assertArrayEquals(expected, indexes);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * A single add that fits into the published slots does not copy them,
+     * only the resize and the remove publish new slots.
+     */
+    @Test
+    void addStoresInPlaceUntilTheTableGrows() {
+        CopyOnWriteHashExample table = new CopyOnWriteHashExample(1_000, 0.5f);
+        String[] slots = table.getDataItems();
+        for (int i = 0; i < 1_000; i++) {
+            assertTrue(table.add("key" + i) >= 0);
+        }
+        assertSame(slots, table.getDataItems());
+        assertEquals(1_000, table.size());
+
+        for (int i = 1_000; table.getDataItems() == slots; i++) {
+            table.add("key" + i);
+        }
+        assertTrue(table.capacity() > slots.length);
+
+        slots = table.getDataItems();
+        assertTrue(table.remove("key0"));
+        assertNotSame(slots, table.getDataItems());
+        assertEquals(-1, table.search("key0"));
+        assertTrue(table.search("key1") >= 0);
+    }
+}
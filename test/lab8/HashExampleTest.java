@@ -0,0 +1,305 @@
+/*
+ * Author: Svetlana Dukkardt
+ * Student number: 040851905
+ * Lab: 8
+ * Date: 18 October, 2026
+ * Purpose: Checks the growth, tombstones, compaction, CLOCK eviction and batch lookups of HashExample
+ */
+
+package lab8;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link HashExample}.
+ * @author Svetlana Dukkardt
+ */
+class HashExampleTest {
+    /**
+     * Maximum ratio of the copied elements to the number of inserts
+     */
+    private static final int COPIES_PER_INSERT = 2;
+
+    /**
+     * Keys of rising index are the worst case of the legacy table: every insert lands past the end of the array.
+     * Growing by one slot would copy N*(N-1)/2 elements.
+     */
+    @Test
+    void legacyBulkLoadCopiesLinearNumberOfElements() {
+        HashExample table = new HashExample();
+        int count = table.capacity();
+        for (int i = 0; i < count; i++) {
+            // single-character strings hash to the character code modulo 100
+            String value = String.valueOf((char) (100 + i));
+            assertEquals(i, table.add(value));
+        }
+        assertEquals(count, table.size());
+        HashStats stats = table.getStats();
+        assertTrue(stats.getCopiedElements() <= (long) COPIES_PER_INSERT * count,
+                "copied " + stats.getCopiedElements() + " elements for " + count + " inserts");
+    }
+
+    /**
+     * Rehashing the resizable table doubles the capacity, so the elements are copied a constant number of times.
+     */
+    @Test
+    void resizableBulkLoadCopiesLinearNumberOfElements() {
+        HashExample table = HashExample.resizable();
+        int count = 100_000;
+        for (int i = 0; i < count; i++) {
+            assertTrue(table.add("key" + i) >= 0);
+        }
+        assertEquals(count, table.size());
+        HashStats stats = table.getStats();
+        assertTrue(stats.getResizes() > 1);
+        assertTrue(stats.getCopiedElements() <= (long) COPIES_PER_INSERT * count,
+                "copied " + stats.getCopiedElements() + " elements for " + count + " inserts");
+    }
+
+    /**
+     * The keys of the cluster share the home slot, so removing one from the middle
+     * must not hide the keys stored after it, before and after the compaction.
+     */
+    @Test
+    void removeFromTheMiddleOfClusterKeepsLaterKeysReachable() {
+        HashExample table = new HashExample(16, 0.5f, HashStrategy.TWO_CHAR);
+        int count = 10;
+        for (int i = 0; i < count; i++) {
+            table.add("ab" + i);
+        }
+        assertTrue(table.remove("ab3"));
+        assertEquals(1, table.tombstones());
+        for (int i = 0; i < count; i++) {
+            assertEquals(i != 3, table.search("ab" + i) >= 0, "ab" + i);
+        }
+
+        // the fourth remove starts the compaction, tombstones are 3 of 10 used slots
+        for (int i = 4; i <= 6; i++) {
+            assertTrue(table.remove("ab" + i));
+        }
+        assertEquals(3, table.getStats().getCompactedTombstones());
+        assertEquals(1, table.tombstones());
+        assertSlotCounts(table);
+        for (int i = 0; i < count; i++) {
+            assertEquals(i < 3 || i > 6, table.search("ab" + i) >= 0, "ab" + i);
+        }
+    }
+
+    /**
+     * Random adds and removes on the clustered and the well-spread hash are checked against {@link HashSet}.
+     */
+    @Test
+    void tombstonesAndCompactionMatchReferenceSet() {
+        for (HashStrategy hashStrategy : new HashStrategy[] {HashStrategy.TWO_CHAR, HashStrategy.HASH_CODE}) {
+            HashExample table = new HashExample(16, 0.5f, hashStrategy);
+            Set<String> expected = new HashSet<>();
+            Random random = new Random(12);
+            for (int i = 0; i < 50_000; i++) {
+                String key = "k" + random.nextInt(500);
+                switch (random.nextInt(3)) {
+                    case 0 -> {
+                        assertTrue(table.add(key) >= 0);
+                        expected.add(key);
+                    }
+                    case 1 -> assertEquals(expected.remove(key), table.remove(key), key);
+                    default -> assertEquals(expected.contains(key), table.search(key) >= 0, key);
+                }
+                if (i % 1_000 == 0) {
+                    assertSlotCounts(table);
+                    assertEquals(expected.size(), table.size());
+                }
+            }
+            for (int i = 0; i < 500; i++) {
+                assertEquals(expected.contains("k" + i), table.search("k" + i) >= 0, "k" + i);
+            }
+            assertSlotCounts(table);
+
+            // draining the table leaves mostly tombstones, so the compaction has to run
+            for (int i = 0; i < 500; i++) {
+                assertEquals(expected.remove("k" + i), table.remove("k" + i), "k" + i);
+                for (String key : expected) {
+                    assertTrue(table.search(key) >= 0, key);
+                }
+            }
+            assertSlotCounts(table);
+            assertEquals(0, table.size());
+            assertTrue(table.getStats().getCompactedTombstones() > 0, hashStrategy.name());
+        }
+    }
+
+    /**
+     * The keys are chosen by their home slots, so no probe run is longer than one slot
+     * and the CLOCK hand meets them in a known order. The hand starts at slot 0,
+     * a lookup hit or a repeated add sets the reference bit, a new element is stored without it.
+     */
+    @Test
+    void clockEvictsFirstUnreferencedElementAfterTheHand() {
+        HashExample table = HashExample.bounded(4, 0.5f, HashStrategy.HASH_CODE);
+        assertEquals(8, table.capacity());
+        Set<String> used = new HashSet<>();
+        String a = keyWithHome(0, table, used);
+        String b = keyWithHome(2, table, used);
+        String c = keyWithHome(4, table, used);
+        String d = keyWithHome(6, table, used);
+        for (String key : List.of(a, b, c, d)) {
+            table.add(key);
+        }
+        assertTrue(table.search(a) >= 0);
+        table.add(c);
+
+        // the hand clears the bit of a and evicts b
+        String x = keyWithHome(2, table, used);
+        table.add(x);
+        assertEquals(Set.of(a, x, c, d), storedStrings(table));
+        // the hand clears the bit of c and evicts d
+        String y = keyWithHome(6, table, used);
+        table.add(y);
+        assertEquals(Set.of(a, x, c, y), storedStrings(table));
+        // the second pass evicts a, its bit was cleared by the first one
+        String z = keyWithHome(0, table, used);
+        table.add(z);
+        assertEquals(Set.of(z, x, c, y), storedStrings(table));
+        // x is found, so the hand passes it and evicts c
+        assertTrue(table.search(x) >= 0);
+        String w = keyWithHome(2, table, used);
+        table.add(w);
+        assertEquals(Set.of(z, x, w, y), storedStrings(table));
+
+        HashStats stats = table.getStats();
+        assertEquals(4, stats.getEvictions());
+        assertEquals(2, stats.getHits());
+        assertEquals(0, stats.getMisses());
+        assertEquals(4, table.size());
+        assertEquals(0, table.tombstones());
+    }
+
+    /**
+     * Every key that leaves the bounded table on an add is counted as an eviction,
+     * and the key that was just added is never the victim.
+     */
+    @Test
+    void evictionCounterMatchesEvictedKeys() {
+        int maxSize = 100;
+        HashExample table = HashExample.bounded(maxSize);
+        Random random = new Random(13);
+        Set<String> before = new HashSet<>();
+        long evicted = 0;
+        long hits = 0;
+        for (int i = 0; i < 20_000; i++) {
+            String key = "key" + random.nextInt(1_000);
+            if (random.nextBoolean()) {
+                assertTrue(table.add(key) >= 0);
+                Set<String> after = storedStrings(table);
+                assertTrue(after.contains(key), key);
+                Set<String> removed = new HashSet<>(before);
+                removed.removeAll(after);
+                assertTrue(removed.size() <= 1);
+                assertEquals(before.size() + (before.contains(key) ? 0 : 1) - removed.size(), after.size());
+                evicted += removed.size();
+                before = after;
+            } else if (table.search(key) >= 0) {
+                assertTrue(before.contains(key), key);
+                hits++;
+            }
+            assertTrue(table.size() <= maxSize);
+        }
+        assertEquals(maxSize, table.size());
+        assertEquals(evicted, table.getStats().getEvictions());
+        assertEquals(hits, table.getStats().getHits());
+    }
+
+    /**
+     * The batch is large enough to be split between the threads and holds stored, removed and missing keys.
+     */
+    @Test
+    void batchSearchMatchesSearchOfEveryKey() {
+        HashExample legacy = new HashExample();
+        HashExample resizable = new HashExample(16, 0.5f, HashStrategy.MURMUR3);
+        resizable.setBloomFilter(0.01);
+        HashExample bounded = HashExample.bounded(1_000);
+        for (HashExample table : List.of(legacy, resizable, bounded)) {
+            for (int i = 0; i < 5_000; i++) {
+                table.add("key" + i);
+            }
+            for (int i = 0; i < 5_000; i += 3) {
+                table.remove("key" + i);
+            }
+        }
+        String[] keys = new String[4 * HashExample.BATCH_SPLIT_THRESHOLD + 1];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = "key" + (i * 7 % 10_000);
+        }
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (HashExample table : List.of(legacy, resizable, bounded)) {
+                int[] indexes = table.searchAll(keys, pool);
+                int[] expected = new int[keys.length];
+                for (int i = 0; i < keys.length; i++) {
+                    expected[i] = table.search(keys[i]);
+                }
+                assertArrayEquals(expected, indexes);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * @param home - home slot of the key
+     * @param table - table whose capacity maps the hash to the slot
+     * @param used - keys that are already taken, the new key is added to them
+     * @return new key whose {@link HashStrategy#HASH_CODE} hash maps to the home slot
+     */
+    private static String keyWithHome(int home, HashExample table, Set<String> used) {
+        for (int i = 0; ; i++) {
+            String key = "key" + i;
+            if (((int) HashStrategy.HASH_CODE.hash(key) & (table.capacity() - 1)) == home && used.add(key)) {
+                return key;
+            }
+        }
+    }
+
+    /**
+     * @param table - table to read
+     * @return strings stored in the table
+     */
+    private static Set<String> storedStrings(HashExample table) {
+        Set<String> strings = new HashSet<>();
+        for (String item : table.getDataItems()) {
+            if (item != null && item != HashExample.TOMBSTONE) {
+                strings.add(item);
+            }
+        }
+        return strings;
+    }
+
+    /**
+     * Checks the number of stored strings and tombstones against the slots
+     * @param table - table to check
+     */
+    private static void assertSlotCounts(HashExample table) {
+        int stored = 0;
+        int tombstones = 0;
+        for (String item : table.getDataItems()) {
+            if (item == HashExample.TOMBSTONE) {
+                tombstones++;
+            } else if (item != null) {
+                stored++;
+            }
+        }
+        assertEquals(table.size(), stored);
+        assertEquals(table.tombstones(), tombstones);
+        // probing stops at an empty slot, so one has to be left
+        assertTrue(stored + tombstones < table.capacity());
+    }
+}
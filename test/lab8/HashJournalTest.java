@@ -0,0 +1,139 @@
+/*
+ * Author: Svetlana Dukkardt
+ * Student number: 040851905
+ * Lab: 8
+ * Date: 18 October, 2026
+ * Purpose: Checks that replaying the journal restores the table and that a failed append changes nothing
+ */
+
+package lab8;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests of {@link HashJournal}.
+ * @author Svetlana Dukkardt
+ */
+class HashJournalTest {
+    /**
+     * Maximum size of the bounded tables
+     */
+    private static final int MAX_SIZE = 100;
+
+    /**
+     * The lookup hits choose the CLOCK victims but are not journaled,
+     * so the replay has to restore the evictions from the journal.
+     */
+    @Test
+    void replayRestoresBoundedTableAfterEvictions(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("table.journal");
+        HashExample table = HashExample.bounded(MAX_SIZE);
+        Random random = new Random(8);
+        try (HashJournal journal = HashJournal.open(file, table, 0)) {
+            for (int i = 0; i < 5_000; i++) {
+                String key = "key" + random.nextInt(1_000);
+                if (random.nextBoolean()) {
+                    table.add(key);
+                } else {
+                    table.search(key);
+                }
+            }
+            journal.sync();
+        }
+        assertTrue(table.getStats().getEvictions() > 0);
+
+        HashExample replayed = HashExample.bounded(MAX_SIZE);
+        HashJournal.open(file, replayed, 0).close();
+        assertEquals(storedStrings(table), storedStrings(replayed));
+    }
+
+    /**
+     * Appending to the closed journal fails, the add, the remove and the eviction must leave the slots as they were.
+     */
+    @Test
+    void failedAppendLeavesTableUnchanged(@TempDir Path directory) throws IOException {
+        HashExample legacy = new HashExample();
+        HashExample resizable = HashExample.resizable();
+        HashExample bounded = HashExample.bounded(MAX_SIZE);
+        for (HashExample table : List.of(legacy, resizable, bounded)) {
+            HashJournal journal = HashJournal.open(directory.resolve(table.hashCode() + ".journal"), table, 0);
+            // the bounded table is filled, so the add has to evict
+            int count = table.isBounded() ? MAX_SIZE : 20;
+            for (int i = 0; i < count; i++) {
+                table.add("key" + i);
+            }
+            journal.close();
+
+            String[] slots = table.getDataItems().clone();
+            int size = table.size();
+            assertThrows(IllegalStateException.class, () -> table.add("new"));
+            assertThrows(IllegalStateException.class, () -> table.remove("key1"));
+            assertArrayEquals(slots, table.getDataItems());
+            assertEquals(size, table.size());
+            assertEquals(-1, table.search("new"));
+            assertTrue(table.search("key1") >= 0);
+        }
+    }
+
+    /**
+     * The process stops after the snapshot is saved and before the journal is reset.
+     * The legacy table keeps every added copy, so replaying the journal again would duplicate the strings.
+     */
+    @Test
+    void journalIsNotReplayedIntoLaterSnapshot(@TempDir Path directory) throws IOException {
+        Path journalFile = directory.resolve("table.journal");
+        Path snapshotFile = directory.resolve("table.snapshot");
+        HashExample table = new HashExample();
+        try (HashJournal journal = HashJournal.open(journalFile, table, 0)) {
+            for (String value : new String[] {"ab", "ba", "abc", "ab"}) {
+                table.add(value);
+            }
+            table.remove("abc");
+            HashSnapshot.save(table, snapshotFile);
+        }
+        String[] saved = table.getDataItems();
+
+        HashExample restored = HashSnapshot.load(snapshotFile);
+        try (HashJournal journal = HashJournal.open(journalFile, restored, 0)) {
+            assertArrayEquals(saved, restored.getDataItems());
+            // the records that follow the snapshot are replayed
+            restored.add("zz");
+            journal.sync();
+        }
+        HashExample replayed = HashSnapshot.load(snapshotFile);
+        HashJournal.open(journalFile, replayed, 0).close();
+        assertEquals(Arrays.asList(restored.getDataItems()), Arrays.asList(replayed.getDataItems()));
+        assertEquals(4, replayed.size());
+
+        // the journal follows the snapshot, a table without it misses the earlier strings
+        assertThrows(IOException.class, () -> HashJournal.open(journalFile, new HashExample(), 0));
+    }
+
+    /**
+     * @param table - table to read
+     * @return strings stored in the table
+     */
+    private static Set<String> storedStrings(HashExample table) {
+        Set<String> strings = new HashSet<>();
+        for (String item : table.getDataItems()) {
+            if (item != null && item != HashExample.TOMBSTONE) {
+                strings.add(item);
+            }
+        }
+        return strings;
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Author: Svetlana Dukkardt
+ * Student number: 040851905
+ * Lab: 8
+ * Date: 18 October, 2026
+ * Purpose: Checks that the server releases its port and answers every request of a closing client
+ */
+
+package lab8;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link HashServer}.
+ * @author Svetlana Dukkardt
+ */
+class HashServerTest {
+    /**
+     * Number of requests the client sends before it closes its side
+     */
+    private static final int REQUESTS = 1_000_000;
+    /**
+     * Response to an unknown command, ten times longer than the request
+     */
+    private static final String UNKNOWN_COMMAND = "ERR unknown command\n";
+
+    @Test
+    void closeReleasesThePortOfServerThatNeverRan() throws IOException {
+        HashServer server = new HashServer(HashExample.resizable(), loopback(0));
+        int port = server.getPort();
+        server.close();
+        try (ServerSocketChannel channel = ServerSocketChannel.open()) {
+            channel.bind(loopback(port));
+        }
+    }
+
+    @Test
+    void closeWaitsForTheLoopAndReleasesThePort() throws Exception {
+        HashServer server = new HashServer(HashExample.resizable(), loopback(0));
+        int port = server.getPort();
+        AtomicReference<IOException> error = new AtomicReference<>();
+        Thread loop = new Thread(() -> {
+            try {
+                server.run();
+            } catch (IOException e) {
+                error.set(e);
+            }
+        });
+        loop.start();
+        // the answer shows that the loop is running
+        try (SocketChannel channel = SocketChannel.open(loopback(port))) {
+            channel.write(ByteBuffer.wrap("SEARCH a\n".getBytes(StandardCharsets.US_ASCII)));
+            ByteBuffer response = ByteBuffer.allocate(16);
+            while (response.position() < 3 && channel.read(response) >= 0) {
+                // wait for the whole response
+            }
+            assertEquals("-1\n", new String(response.array(), 0, response.position(), StandardCharsets.US_ASCII));
+        }
+        server.close();
+        try (ServerSocketChannel channel = ServerSocketChannel.open()) {
+            channel.bind(loopback(port));
+        }
+        loop.join();
+        assertNull(error.get());
+    }
+
+    /**
+     * The responses are larger than the requests, so many of them are not written yet
+     * when the server reads the end of the stream. The client has to receive all of them.
+     */
+    @Test
+    void responsesAreWrittenAfterClientClosesItsSide() throws Exception {
+        HashServer server = new HashServer(HashExample.resizable(), loopback(0));
+        AtomicReference<IOException> error = new AtomicReference<>();
+        Thread loop = new Thread(() -> {
+            try {
+                server.run();
+            } catch (IOException e) {
+                error.set(e);
+            }
+        });
+        loop.start();
+        try (SocketChannel channel = SocketChannel.open()) {
+            // a small receive buffer keeps the responses waiting in the server
+            channel.setOption(StandardSocketOptions.SO_RCVBUF, 4 * 1024);
+            channel.connect(loopback(server.getPort()));
+            Thread writer = new Thread(() -> {
+                try {
+                    ByteBuffer requests = ByteBuffer.wrap("X\n".repeat(REQUESTS).getBytes(StandardCharsets.US_ASCII));
+                    while (requests.hasRemaining()) {
+                        channel.write(requests);
+                    }
+                    channel.shutdownOutput();
+                } catch (IOException e) {
+                    error.set(e);
+                }
+            });
+            writer.start();
+
+            ByteBuffer response = ByteBuffer.allocate(4 * 1024);
+            long received = 0;
+            while (channel.read(response) >= 0) {
+                received += response.position();
+                response.clear();
+            }
+            writer.join();
+            assertEquals((long) REQUESTS * UNKNOWN_COMMAND.length(), received);
+        } finally {
+            server.close();
+            loop.join();
+        }
+        assertNull(error.get());
+        assertEquals(REQUESTS, server.getRequests());
+    }
+
+    /**
+     * @param port - port, 0 for a free one
+     * @return address of the port on the loopback interface
+     */
+    private static InetSocketAddress loopback(int port) {
+        return new InetSocketAddress(InetAddress.getLoopbackAddress(), port);
+    }
+}
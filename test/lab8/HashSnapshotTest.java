@@ -0,0 +1,162 @@
+/*
+ * Author: Svetlana Dukkardt
+ * Student number: 040851905
+ * Lab: 8
+ * Date: 18 October, 2026
+ * Purpose: Checks that snapshots restore the table and that damaged snapshots are rejected
+ */
+
+package lab8;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests of {@link HashSnapshot}.
+ * @author Svetlana Dukkardt
+ */
+class HashSnapshotTest {
+    /**
+     * Offset of the length of the first string of the arena
+     */
+    private static final int FIRST_STRING_OFFSET = 4 + 4 + 8 + 1 + 1 + 4 + 4 + 4 + 4;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void roundTripKeepsSlotLayoutAndTombstones() throws IOException {
+        HashExample table = new HashExample(0, 0.5f, HashStrategy.MURMUR3);
+        for (int i = 0; i < 1_000; i++) {
+            table.add("key" + i + "é中");
+        }
+        for (int i = 0; i < 1_000; i += 7) {
+            table.remove("key" + i + "é中");
+        }
+        assertTrue(table.tombstones() > 0);
+
+        HashExample loaded = saveAndLoad(table);
+        assertTrue(loaded.isResizable());
+        assertSame(HashStrategy.MURMUR3, loaded.getHashStrategy());
+        assertEquals(table.size(), loaded.size());
+        assertEquals(table.tombstones(), loaded.tombstones());
+        assertSlotsEqual(table, loaded);
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(table.search("key" + i + "é中"), loaded.search("key" + i + "é中"));
+        }
+    }
+
+    @Test
+    void roundTripOfLegacyAndBoundedTables() throws IOException {
+        HashExample legacy = new HashExample();
+        for (String value : new String[] {"ab", "ba", "abc", "zz", "a"}) {
+            legacy.add(value);
+        }
+        HashExample loadedLegacy = saveAndLoad(legacy);
+        assertFalse(loadedLegacy.isResizable());
+        assertSlotsEqual(legacy, loadedLegacy);
+
+        HashExample bounded = HashExample.bounded(50);
+        for (int i = 0; i < 200; i++) {
+            bounded.add("key" + i);
+        }
+        HashExample loadedBounded = saveAndLoad(bounded);
+        assertEquals(50, loadedBounded.getMaxSize());
+        assertSlotsEqual(bounded, loadedBounded);
+    }
+
+    @Test
+    void truncatedSnapshotIsRejected() throws IOException {
+        byte[] bytes = snapshotBytes();
+        for (int length : new int[] {0, 1, FIRST_STRING_OFFSET, bytes.length / 2, bytes.length - 9, bytes.length - 1}) {
+            assertRejected(Arrays.copyOf(bytes, length));
+        }
+    }
+
+    @Test
+    void flippedBitIsDetected() throws IOException {
+        byte[] bytes = snapshotBytes();
+        for (int i = 0; i < bytes.length; i++) {
+            byte[] damaged = bytes.clone();
+            damaged[i] ^= (byte) (1 << (i & 7));
+            assertRejected(damaged);
+        }
+    }
+
+    @Test
+    void malformedStringLengthWithValidChecksumIsRejected() throws IOException {
+        byte[] bytes = snapshotBytes();
+        for (int length : new int[] {-1, Integer.MAX_VALUE, bytes.length}) {
+            ByteBuffer damaged = ByteBuffer.wrap(bytes.clone());
+            damaged.putInt(FIRST_STRING_OFFSET, length);
+            CRC32 crc = new CRC32();
+            crc.update(damaged.array(), 0, bytes.length - 8);
+            damaged.putLong(bytes.length - 8, crc.getValue());
+            assertRejected(damaged.array());
+        }
+    }
+
+    /**
+     * @return snapshot of a small table
+     */
+    private byte[] snapshotBytes() throws IOException {
+        HashExample table = HashExample.resizable();
+        for (int i = 0; i < 20; i++) {
+            table.add("key" + i);
+        }
+        Path file = directory.resolve("source.snapshot");
+        HashSnapshot.save(table, file);
+        return Files.readAllBytes(file);
+    }
+
+    /**
+     * Checks that loading the bytes fails with {@link IOException}
+     * @param bytes - content of the snapshot
+     */
+    private void assertRejected(byte[] bytes) throws IOException {
+        Path file = directory.resolve("damaged.snapshot");
+        Files.write(file, bytes);
+        assertThrows(IOException.class, () -> HashSnapshot.load(file));
+    }
+
+    /**
+     * @param table - table to save
+     * @return table loaded from the snapshot
+     */
+    private HashExample saveAndLoad(HashExample table) throws IOException {
+        Path file = directory.resolve("table.snapshot");
+        HashSnapshot.save(table, file);
+        return HashSnapshot.load(file);
+    }
+
+    /**
+     * Checks that both tables keep the same strings and tombstones in the same slots
+     * @param expected - saved table
+     * @param actual - loaded table
+     */
+    private static void assertSlotsEqual(HashExample expected, HashExample actual) {
+        String[] expectedItems = expected.getDataItems();
+        String[] actualItems = actual.getDataItems();
+        assertEquals(expectedItems.length, actualItems.length);
+        for (int i = 0; i < expectedItems.length; i++) {
+            if (expectedItems[i] == HashExample.TOMBSTONE) {
+                assertSame(HashExample.TOMBSTONE, actualItems[i], "slot " + i);
+            } else {
+                assertEquals(expectedItems[i], actualItems[i], "slot " + i);
+            }
+        }
+    }
+}
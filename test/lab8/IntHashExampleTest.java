@@ -0,0 +1,95 @@
+/*
+ * Author: Svetlana Dukkardt
+ * Student number: 040851905
+ * Lab: 8
+ * Date: 18 October, 2026
+ * Purpose: Checks the hash table of int keys with the key 0, the extreme keys and the resizes
+ */
+
+package lab8;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link IntHashExample}.
+ * @author Svetlana Dukkardt
+ */
+class IntHashExampleTest {
+    /**
+     * Keys at the edges of the range and next to the free slot marker
+     */
+    private static final int[] EDGE_KEYS = {0, 1, -1, Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MIN_VALUE + 1};
+
+    /**
+     * The key 0 marks a free slot, so it is kept in the extra slot after the table, also across the resizes.
+     */
+    @Test
+    void zeroKeyIsStoredInTheExtraSlot() {
+        IntHashExample table = new IntHashExample(4, 0.5f);
+        assertEquals(-1, table.search(0));
+        assertFalse(table.remove(0));
+        assertEquals(table.capacity(), table.add(0));
+        assertEquals(table.capacity(), table.add(0));
+        assertEquals(1, table.size());
+
+        int capacity = table.capacity();
+        for (int i = 1; i <= 100; i++) {
+            table.add(i);
+        }
+        assertTrue(table.capacity() > capacity);
+        assertEquals(table.capacity(), table.search(0));
+        assertEquals(101, table.size());
+
+        assertTrue(table.remove(0));
+        assertEquals(-1, table.search(0));
+        assertFalse(table.remove(0));
+        assertEquals(100, table.size());
+        for (int i = 1; i <= 100; i++) {
+            assertTrue(table.search(i) >= 0, Integer.toString(i));
+        }
+    }
+
+    /**
+     * Random adds and removes, together with the edge keys, are checked against {@link HashSet}
+     * while the table grows from the smallest capacity.
+     */
+    @Test
+    void operationsMatchReferenceSetThroughResizes() {
+        IntHashExample table = new IntHashExample(0, 0.5f);
+        Set<Integer> expected = new HashSet<>();
+        Random random = new Random(19);
+        for (int key : EDGE_KEYS) {
+            assertTrue(table.add(key) >= 0);
+            expected.add(key);
+        }
+        for (int i = 0; i < 200_000; i++) {
+            // a small range gives duplicates and removes of stored keys, the edge keys are drawn too
+            int key = random.nextInt(10) == 0 ? EDGE_KEYS[random.nextInt(EDGE_KEYS.length)]
+                    : random.nextInt(20_000) - 10_000;
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), table.remove(key), Integer.toString(key));
+            } else {
+                int index = table.add(key);
+                assertTrue(index >= 0);
+                expected.add(key);
+                assertEquals(index, table.search(key));
+            }
+            assertEquals(expected.size(), table.size());
+        }
+        assertTrue(table.capacity() >= 2 * expected.size());
+        for (int key = -10_000; key < 10_000; key++) {
+            assertEquals(expected.contains(key), table.search(key) >= 0, Integer.toString(key));
+        }
+        for (int key : EDGE_KEYS) {
+            assertEquals(expected.contains(key), table.search(key) >= 0, Integer.toString(key));
+        }
+    }
+}
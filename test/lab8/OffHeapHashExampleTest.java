@@ -0,0 +1,83 @@
+/*
+ * Author: Svetlana Dukkardt
+ * Student number: 040851905
+ * Lab: 8
+ * Date: 18 October, 2026
+ * Purpose: Checks the off-heap hash table and the growth of its arena
+ */
+
+package lab8;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link OffHeapHashExample}.
+ * @author Svetlana Dukkardt
+ */
+class OffHeapHashExampleTest {
+    /**
+     * Size of a new arena chunk, see {@link OffHeapHashExample}
+     */
+    private static final int MIN_CHUNK_SIZE = 1 << 12;
+
+    @Test
+    void stringsSurviveArenaGrowth() {
+        OffHeapHashExample table = new OffHeapHashExample();
+        int count = 200_000;
+        for (int i = 0; i < count; i++) {
+            assertTrue(table.add(key(i)) >= 0);
+        }
+        assertEquals(count, table.size());
+        for (int i = 0; i < count; i++) {
+            int index = table.search(key(i));
+            assertTrue(index >= 0, key(i));
+            assertEquals(key(i), table.get(index));
+        }
+        assertEquals(-1, table.search("missing"));
+    }
+
+    @Test
+    void stringsSpanSeveralFullChunks() {
+        OffHeapHashExample table = new OffHeapHashExample();
+        String padding = "x".repeat(1_000);
+        int count = 100_000;
+        for (int i = 0; i < count; i++) {
+            assertTrue(table.add(i + padding) >= 0);
+        }
+        assertTrue(table.getArenaBytes() > 1 << 26);
+        for (int i = 0; i < count; i += 97) {
+            assertEquals(i + padding, table.get(table.search(i + padding)));
+        }
+    }
+
+    @Test
+    void arenaIsSizedToTheData() {
+        OffHeapHashExample table = new OffHeapHashExample();
+        assertEquals(0, table.getArenaCapacity());
+        table.add("a");
+        assertEquals(MIN_CHUNK_SIZE, table.getArenaCapacity());
+        for (int i = 0; i < 10_000; i++) {
+            table.add(key(i));
+        }
+        assertTrue(table.getArenaCapacity() < 2 * table.getArenaBytes() + MIN_CHUNK_SIZE,
+                table.getArenaCapacity() + " bytes reserved for " + table.getArenaBytes());
+
+        table.clear();
+        assertEquals(0, table.size());
+        assertEquals(0, table.getArenaCapacity());
+        assertEquals(-1, table.search(key(0)));
+        assertTrue(table.add(key(0)) >= 0);
+        assertTrue(table.search(key(0)) >= 0);
+    }
+
+    /**
+     * @param i - number of the key
+     * @return key with ASCII and multi-byte characters
+     */
+    private static String key(int i) {
+        return "key-" + i + (i % 3 == 0 ? "-é中😀" : "");
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Author: Svetlana Dukkardt
+ * Student number: 040851905
+ * Lab: 8
+ * Date: 18 October, 2026
+ * Purpose: Checks the control byte matching and the lookups of the SwissTable layout
+ */
+
+package lab8;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link SwissHashExample}.
+ * @author Svetlana Dukkardt
+ */
+class SwissHashExampleTest {
+    /**
+     * Number of control bytes in a group
+     */
+    private static final int GROUP_WIDTH = 8;
+
+    /**
+     * Random groups of tags, empty and deleted bytes are matched byte by byte.
+     * The tag match may only add false matches in a run that starts with a true one.
+     */
+    @Test
+    void groupMatchingAgreesWithByteComparison() {
+        Random random = new Random(18);
+        for (int n = 0; n < 100_000; n++) {
+            byte[] bytes = new byte[GROUP_WIDTH];
+            long group = 0;
+            for (int i = 0; i < GROUP_WIDTH; i++) {
+                int kind = random.nextInt(4);
+                bytes[i] = kind == 0 ? SwissHashExample.EMPTY : kind == 1 ? SwissHashExample.DELETED
+                        : (byte) random.nextInt(4);
+                group |= (bytes[i] & 0xffL) << (8 * i);
+            }
+            byte tag = (byte) random.nextInt(4);
+            long tagMatches = SwissHashExample.matchTag(group, 0x0101010101010101L * tag);
+            long empty = SwissHashExample.matchEmpty(group);
+            long free = SwissHashExample.matchEmptyOrDeleted(group);
+            for (int i = 0; i < GROUP_WIDTH; i++) {
+                long bit = 0x80L << (8 * i);
+                String message = "byte " + i + " of " + Long.toHexString(group);
+                assertEquals(bytes[i] == SwissHashExample.EMPTY, (empty & bit) != 0, message);
+                assertEquals(bytes[i] < 0, (free & bit) != 0, message);
+                if (bytes[i] == tag) {
+                    assertTrue((tagMatches & bit) != 0, message);
+                } else if ((tagMatches & bit) != 0) {
+                    // the borrow of a true match runs into the next bytes
+                    assertTrue(i > 0 && (tagMatches & (bit >>> 8)) != 0, message);
+                }
+            }
+            assertEquals(0, tagMatches & ~0x8080808080808080L);
+        }
+    }
+
+    /**
+     * Random adds, removes and lookups are checked against {@link HashSet} on a small table,
+     * so the deleted slots are reused and the table is rehashed at the same and a larger capacity.
+     */
+    @Test
+    void operationsMatchReferenceSet() {
+        for (HashStrategy hashStrategy : new HashStrategy[] {HashStrategy.HASH_CODE, HashStrategy.MURMUR3,
+                HashStrategy.XXHASH64}) {
+            SwissHashExample table = new SwissHashExample(0, hashStrategy);
+            Set<String> expected = new HashSet<>();
+            Random random = new Random(18);
+            for (int i = 0; i < 200_000; i++) {
+                String key = "k" + random.nextInt(2_000);
+                switch (random.nextInt(3)) {
+                    case 0 -> {
+                        int index = table.add(key);
+                        assertTrue(index >= 0);
+                        expected.add(key);
+                        assertEquals(index, table.search(key));
+                    }
+                    case 1 -> assertEquals(expected.remove(key), table.remove(key), key);
+                    default -> assertEquals(expected.contains(key), table.search(key) >= 0, key);
+                }
+                assertEquals(expected.size(), table.size());
+            }
+            for (int i = 0; i < 2_000; i++) {
+                assertEquals(expected.contains("k" + i), table.search("k" + i) >= 0, hashStrategy + " k" + i);
+            }
+        }
+    }
+
+    /**
+     * The tags come from the high bits and the group from the low ones,
+     * so a miss compares almost no strings even in the full table.
+     */
+    @Test
+    void missesCompareFewStrings() {
+        for (HashStrategy hashStrategy : new HashStrategy[] {HashStrategy.HASH_CODE, HashStrategy.MURMUR3,
+                HashStrategy.XXHASH64}) {
+            SwissHashExample table = new SwissHashExample(0, hashStrategy);
+            for (int i = 0; i < 100_000; i++) {
+                table.add("key" + i);
+            }
+            long compares = 0;
+            for (int i = 0; i < 100_000; i++) {
+                compares += table.compareCount("missing" + i);
+            }
+            assertTrue(compares < 100_000 / 10, hashStrategy + ": " + compares + " compares");
+        }
+    }
+
+    @Test
+    void twoCharHashIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new SwissHashExample(16, HashStrategy.TWO_CHAR));
+    }
+}